@@ -0,0 +1,140 @@
+#!/bin/sh
+#
+# Startup Benchmark: Warm-up 유무에 따른 Time-to-stable-p99 측정
+#
+# 사용법:
+#   LOADGEN_CP={jmh classpath} ./scripts/startup-benchmark.sh build/libs/app.jar
+#
+# 주의: 매 측정 전에 orders 테이블을 비우고 SEED_ORDERS 건으로 다시 채우며 Redis orders::* 키를 삭제합니다.
+#       벤치마크 전용 MySQL/Redis 를 사용하세요 (애플리케이션과 같은 DB_*, REDIS_* 환경 변수 사용,
+#       orders 테이블은 애플리케이션을 한 번 기동하여 생성되어 있어야 함). RESET_STATE=false 로 끌 수 있습니다.
+#
+# 측정 방법:
+# 0. 이전 측정의 캐시/데이터가 다음 측정에 유리하게 작용하지 않도록 DB/캐시 상태 초기화
+# 1. WARMUP_ENABLED=true/false 로 각각 애플리케이션 기동
+#    (REPEATS 회 반복하며 반복마다 순서를 번갈아 실행)
+# 2. /api/health 가 200 이 된 시점부터 LoadGenerator(open-loop, RATE req/s, 동시 CONCURRENCY)로
+#    지속 부하를 걸고 1초 구간마다 p99 를 보고받음 (구간 시작 시각은 요청 발사 전에 기록됨)
+# 3. 구간 p99 가 STABLE_P99_MS 이하로 STABLE_WINDOWS 회 연속 유지되면 안정화로 판단
+#    (연속 구간의 첫 구간 시작 시각을 안정화 시점으로 기록)
+#
+# 출력: run=<반복 번호> warmup=<true|false> ready_ms=<기동~Readiness> stable_ms=<Readiness~p99 안정화>
+
+set -eu
+
+JAR=${1:?"jar 경로를 지정하세요"}
+LOADGEN_CP=${LOADGEN_CP:?"LoadGenerator 클래스패스(LOADGEN_CP)를 지정하세요"}
+PORT=${PORT:-8080}
+RATE=${RATE:-200}
+CONCURRENCY=${CONCURRENCY:-64}
+STABLE_P99_MS=${STABLE_P99_MS:-50}
+STABLE_WINDOWS=${STABLE_WINDOWS:-5}
+MAX_WINDOWS=${MAX_WINDOWS:-120}
+REPEATS=${REPEATS:-1}
+RESET_STATE=${RESET_STATE:-true}
+SEED_ORDERS=${SEED_ORDERS:-500}
+BASE_URL="http://localhost:${PORT}"
+
+DB_HOST=${DB_HOST:-localhost}
+DB_PORT=${DB_PORT:-3306}
+DB_NAME=${DB_NAME:-freshchicken}
+DB_USERNAME=${DB_USERNAME:-admin}
+DB_PASSWORD=${DB_PASSWORD:-password}
+REDIS_HOST=${REDIS_HOST:-localhost}
+REDIS_PORT=${REDIS_PORT:-6379}
+REDIS_PASSWORD=${REDIS_PASSWORD:-}
+
+now_ms() {
+  date +%s%3N
+}
+
+# INTERVAL {구간 시작 epoch ms} {요청 수} {p99 ms} 에서 연속 안정 구간의 첫 구간 시작 시각 출력
+stable_window_start() {
+  awk -v limit="$STABLE_P99_MS" -v need="$STABLE_WINDOWS" '
+    $1 == "INTERVAL" {
+      if ($3 > 0 && $4 <= limit) {
+        if (streak == 0) since = $2
+        streak++
+        if (streak >= need) { print since; exit }
+      } else {
+        streak = 0
+      }
+    }' "$1"
+}
+
+redis_cli() {
+  REDISCLI_AUTH="$REDIS_PASSWORD" redis-cli -h "$REDIS_HOST" -p "$REDIS_PORT" "$@"
+}
+
+# orders 캐시 삭제 + orders 테이블을 동일한 SEED_ORDERS 건으로 재구성
+reset_state() {
+  [ "$RESET_STATE" = true ] || return 0
+
+  redis_cli --scan --pattern 'orders::*' | while read -r key; do
+    redis_cli DEL "$key" > /dev/null
+  done
+
+  MYSQL_PWD="$DB_PASSWORD" mysql -h "$DB_HOST" -P "$DB_PORT" -u "$DB_USERNAME" "$DB_NAME" <<SQL
+TRUNCATE TABLE orders;
+SET SESSION cte_max_recursion_depth = ${SEED_ORDERS};
+INSERT INTO orders (customer_name, menu_item, quantity, total_price, status, notes, created_at, updated_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ${SEED_ORDERS})
+SELECT CONCAT('고객', n % 100), '후라이드 치킨', 1 + n % 3, 18000 * (1 + n % 3),
+       ELT(1 + n % 6, 'PENDING', 'CONFIRMED', 'PREPARING', 'READY', 'COMPLETED', 'CANCELLED'),
+       NULL, NOW() - INTERVAL n MINUTE, NOW() - INTERVAL n MINUTE
+FROM seq;
+SQL
+}
+
+measure() {
+  warmup=$1
+  run=$2
+  reset_state
+
+  WARMUP_ENABLED=$warmup java ${JAVA_OPTS:-} -jar "$JAR" --server.port="$PORT" > "startup-warmup-${warmup}-${run}.log" 2>&1 &
+  pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+
+  started=$(now_ms)
+  until [ "$(curl -s -o /dev/null -w '%{http_code}' "$BASE_URL/api/health")" = "200" ]; do
+    sleep 0.2
+  done
+  ready=$(now_ms)
+
+  java -cp "$LOADGEN_CP" com.freshchicken.loadtest.LoadGenerator \
+      --url="$BASE_URL" --mode=open --rate="$RATE" --concurrency="$CONCURRENCY" \
+      --warmup=0 --duration="$MAX_WINDOWS" --report-interval=1 > "loadgen-warmup-${warmup}-${run}.log" 2>&1 &
+  loadgen=$!
+
+  stable_since=""
+  while [ -z "$stable_since" ]; do
+    running=true
+    kill -0 "$loadgen" 2>/dev/null || running=false
+    stable_since=$(stable_window_start "loadgen-warmup-${warmup}-${run}.log")
+    [ "$running" = false ] && break
+    sleep 1
+  done
+  kill "$loadgen" 2>/dev/null || true
+
+  kill "$pid" && wait "$pid" 2>/dev/null || true
+  trap - EXIT
+
+  if [ -z "$stable_since" ]; then
+    echo "run=${run} warmup=${warmup} ready_ms=$((ready - started)) stable_ms=NOT_STABLE"
+  else
+    echo "run=${run} warmup=${warmup} ready_ms=$((ready - started)) stable_ms=$((stable_since - ready))"
+  fi
+}
+
+# 반복마다 순서를 번갈아 실행하여 실행 순서에 따른 편향(OS 페이지 캐시, MySQL 버퍼 풀 등)을 상쇄
+i=1
+while [ "$i" -le "$REPEATS" ]; do
+  if [ $((i % 2)) -eq 1 ]; then
+    measure false "$i"
+    measure true "$i"
+  else
+    measure true "$i"
+    measure false "$i"
+  fi
+  i=$((i + 1))
+done
@@ -0,0 +1,107 @@
+package com.freshchicken.benchmark;
+
+import com.freshchicken.FreshChickenApplication;
+import com.freshchicken.config.CacheConfig;
+import com.freshchicken.metrics.TimedCacheManager;
+import com.freshchicken.model.Order;
+import com.freshchicken.model.Order.OrderStatus;
+import com.freshchicken.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트
+ *
+ * - MySQL → H2 In-memory (MySQL 모드)
+ * - Redis → {@link InMemoryRedisCacheWriter} (RedisCache 직렬화 경로 유지)
+ * - Warm-up, 요청 로그 비활성화 / 저널은 임시 디렉토리 사용
+ */
+public final class BenchmarkApplication {
+
+    public static final int SEED_ORDERS = 1000;
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start() throws Exception {
+        return start(WebApplicationType.NONE);
+    }
+
+    /**
+     * @param webApplicationType SERVLET 이면 HTTP 서버까지 기동 (부하 테스트용)
+     * @param overrides 추가/재정의할 설정 (key=value)
+     */
+    public static ConfigurableApplicationContext start(WebApplicationType webApplicationType,
+                                                       String... overrides) throws Exception {
+        String journalDir = Files.createTempDirectory("bench-journal").toString();
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                FreshChickenApplication.class, InProcessCacheConfig.class)
+            .web(webApplicationType)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "warmup.enabled=false",
+                "request-log.enabled=false",
+                "journal.directory=" + journalDir,
+                "logging.level.root=WARN",
+                "logging.level.com.freshchicken=WARN")
+            .properties(overrides)
+            .run();
+
+        seed(context.getBean(OrderRepository.class));
+        return context;
+    }
+
+    private static void seed(OrderRepository orderRepository) {
+        List<Order> orders = new ArrayList<>(SEED_ORDERS);
+        for (int i = 0; i < SEED_ORDERS; i++) {
+            orders.add(sampleOrder("고객" + (i % 100), OrderStatus.values()[i % OrderStatus.values().length]));
+        }
+        orderRepository.saveAll(orders);
+    }
+
+    public static Order sampleOrder(String customerName, OrderStatus status) {
+        return Order.builder()
+            .customerName(customerName)
+            .menuItem("후라이드 치킨")
+            .quantity(2)
+            .totalPrice(36000)
+            .status(status)
+            .notes("양념 소스 추가")
+            .build();
+    }
+
+    /**
+     * In-process Redis 대체 CacheManager (운영 CacheConfig 보다 우선)
+     */
+    @Configuration
+    static class InProcessCacheConfig {
+
+        @Bean
+        @Primary
+        public CacheManager inProcessCacheManager(MeterRegistry meterRegistry) {
+            RedisCacheManager redisCacheManager = RedisCacheManager.builder(new InMemoryRedisCacheWriter())
+                .cacheDefaults(CacheConfig.redisCacheConfiguration())
+                .build();
+            redisCacheManager.afterPropertiesSet();
+
+            return new TimedCacheManager(redisCacheManager, "redis", meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.freshchicken.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 벤치마크 실행기 (JSON 결과 출력)
+ *
+ * 결과 파일: build/reports/jmh/{GIT_COMMIT}.json
+ * 커밋별 결과 파일을 비교하여 성능 회귀를 확인합니다.
+ *
+ * 사용법: java -cp {jmh classpath} com.freshchicken.benchmark.BenchmarkRunner [include regex]
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String include = args.length > 0 ? args[0] : "com\\.freshchicken\\..*Benchmark";
+        String commit = System.getenv().getOrDefault("GIT_COMMIT", "local");
+
+        Path resultFile = Paths.get("build", "reports", "jmh", commit + ".json");
+        Files.createDirectories(resultFile.getParent());
+
+        Options options = new OptionsBuilder()
+            .include(include)
+            .resultFormat(ResultFormatType.JSON)
+            .result(resultFile.toString())
+            .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,61 @@
+package com.freshchicken.benchmark;
+
+import com.freshchicken.config.CacheConfig;
+import com.freshchicken.model.Order;
+import com.freshchicken.model.Order.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CacheConfig Redis Value 직렬화 왕복 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheSerializerBenchmark {
+
+    private SerializationPair<Object> valuePair;
+    private Order order;
+    private ByteBuffer serialized;
+
+    @Setup
+    public void setUp() {
+        valuePair = CacheConfig.redisCacheConfiguration().getValueSerializationPair();
+        order = BenchmarkApplication.sampleOrder("홍길동", OrderStatus.PENDING);
+        order.setId(1L);
+        order.setCreatedAt(LocalDateTime.now());
+        order.setUpdatedAt(LocalDateTime.now());
+        serialized = valuePair.write(order);
+    }
+
+    @Benchmark
+    public ByteBuffer serialize() {
+        return valuePair.write(order);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return valuePair.read(serialized.duplicate());
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        return valuePair.read(valuePair.write(order));
+    }
+}
@@ -0,0 +1,58 @@
+package com.freshchicken.benchmark;
+
+import com.freshchicken.model.Order;
+import com.freshchicken.model.Order.OrderStatus;
+import com.freshchicken.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * createOrder 저널 오버헤드 벤치마크
+ *
+ * journalEnabled=true 는 OrderServiceBenchmark.createOrder 와 같은 구성이며,
+ * false 와의 차이가 저널 기록으로 추가된 지연 시간입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateOrderJournalBenchmark {
+
+    @Param({"true", "false"})
+    public boolean journalEnabled;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start(WebApplicationType.NONE, "journal.enabled=" + journalEnabled);
+        orderService = context.getBean(OrderService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return orderService.createOrder(BenchmarkApplication.sampleOrder("벤치마크", OrderStatus.PENDING));
+    }
+}
@@ -0,0 +1,76 @@
+package com.freshchicken.benchmark;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process Redis 대체 구현 (벤치마크 전용)
+ *
+ * RedisCache 의 Key/Value 직렬화 경로는 그대로 사용하고, 네트워크 I/O 대신 메모리 Map 에 저장합니다.
+ * TTL 은 무시합니다.
+ */
+public class InMemoryRedisCacheWriter implements RedisCacheWriter {
+
+    private final Map<String, Map<ByteBuffer, byte[]>> caches = new ConcurrentHashMap<>();
+
+    private Map<ByteBuffer, byte[]> cache(String name) {
+        return caches.computeIfAbsent(name, key -> new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        return cache(name).get(ByteBuffer.wrap(key));
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        cache(name).put(ByteBuffer.wrap(key.clone()), value);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        return cache(name).putIfAbsent(ByteBuffer.wrap(key.clone()), value);
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        cache(name).remove(ByteBuffer.wrap(key));
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        cache(name).clear();
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, Duration ttl) {
+        return CompletableFuture.completedFuture(get(name, key));
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, Duration ttl) {
+        put(name, key, value, ttl);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return this;
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return CacheStatisticsCollector.none().getCacheStatistics(cacheName);
+    }
+}
@@ -0,0 +1,215 @@
+package com.freshchicken.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.freshchicken.config.MetricsConfig;
+import com.freshchicken.metrics.OrderMetrics;
+import com.freshchicken.metrics.TimedCache;
+import com.freshchicken.metrics.TimedJacksonHttpMessageConverter;
+import com.freshchicken.metrics.TraceContext;
+import com.freshchicken.model.Order;
+import com.freshchicken.model.Order.OrderStatus;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.CollectorRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계측 오버헤드 벤치마크
+ *
+ * 운영과 같은 구성으로 측정합니다.
+ * - MeterRegistry: MetricsConfig 의 ExemplarSampler 를 사용하는 PrometheusMeterRegistry
+ * - 계측 경로는 요청 스레드처럼 TraceContext 가 바인딩된 상태에서 실행 (Exemplar 샘플링 포함)
+ *
+ * 비교 항목:
+ * - 캐시 조회: 원본 Cache vs TimedCache (hit/miss)
+ * - JSON 직렬화: MappingJackson2HttpMessageConverter vs TimedJacksonHttpMessageConverter
+ * - 요청 단위: 캐시 조회 + 직렬화를 TraceContext.start/clear 없이 vs 포함 (traceparent 파싱, hex 생성)
+ * - 카운터: 호출마다 Counter.builder().register() vs 미리 등록한 OrderMetrics
+ *
+ * 실행: java -cp {jmh classpath} com.freshchicken.benchmark.BenchmarkRunner InstrumentationOverheadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InstrumentationOverheadBenchmark {
+
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    private PrometheusMeterRegistry meterRegistry;
+    private Cache rawCache;
+    private Cache timedCache;
+    private OrderMetrics orderMetrics;
+    private MappingJackson2HttpMessageConverter rawConverter;
+    private MappingJackson2HttpMessageConverter timedConverter;
+    private Map<String, Object> responseBody;
+
+    @Setup
+    public void setUp() {
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT, new CollectorRegistry(), Clock.SYSTEM,
+            MetricsConfig.exemplarSampler());
+        rawCache = new ConcurrentMapCache("orders");
+        rawCache.put(1L, "order-1");
+        timedCache = new TimedCache(rawCache, "redis", meterRegistry);
+        orderMetrics = new OrderMetrics(meterRegistry);
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        rawConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        timedConverter = new TimedJacksonHttpMessageConverter(objectMapper, meterRegistry);
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Order order = BenchmarkApplication.sampleOrder("고객" + i, OrderStatus.PREPARING);
+            order.setId((long) i);
+            order.setCreatedAt(LocalDateTime.now());
+            order.setUpdatedAt(LocalDateTime.now());
+            orders.add(order);
+        }
+        responseBody = Map.of("success", true, "data", orders);
+    }
+
+    /**
+     * 요청 스레드와 같이 TraceContext 가 바인딩된 워커 스레드
+     */
+    @State(Scope.Thread)
+    public static class TracedThread {
+
+        @Setup
+        public void bind() {
+            TraceContext.start(TRACEPARENT);
+        }
+
+        @TearDown
+        public void unbind() {
+            TraceContext.clear();
+        }
+    }
+
+    /**
+     * 재사용 응답 버퍼 (호출마다 비움)
+     */
+    @State(Scope.Thread)
+    public static class ResponseBuffer implements HttpOutputMessage {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(4096);
+        private HttpHeaders headers = new HttpHeaders();
+
+        ResponseBuffer reset() {
+            body.reset();
+            headers = new HttpHeaders();
+            return this;
+        }
+
+        int size() {
+            return body.size();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+    @Benchmark
+    public Object cacheHitUninstrumented() {
+        return rawCache.get(1L);
+    }
+
+    @Benchmark
+    public Object cacheHitInstrumented(TracedThread traced) {
+        return timedCache.get(1L);
+    }
+
+    @Benchmark
+    public Object cacheMissUninstrumented() {
+        return rawCache.get(2L);
+    }
+
+    @Benchmark
+    public Object cacheMissInstrumented(TracedThread traced) {
+        return timedCache.get(2L);
+    }
+
+    @Benchmark
+    public int jsonEncodeUninstrumented(ResponseBuffer buffer) throws IOException {
+        rawConverter.write(responseBody, MediaType.APPLICATION_JSON, buffer.reset());
+        return buffer.size();
+    }
+
+    @Benchmark
+    public int jsonEncodeInstrumented(TracedThread traced, ResponseBuffer buffer) throws IOException {
+        timedConverter.write(responseBody, MediaType.APPLICATION_JSON, buffer.reset());
+        return buffer.size();
+    }
+
+    @Benchmark
+    public int requestUninstrumented(ResponseBuffer buffer) throws IOException {
+        rawCache.get(1L);
+        rawConverter.write(responseBody, MediaType.APPLICATION_JSON, buffer.reset());
+        return buffer.size();
+    }
+
+    /**
+     * RequestLogFilter 와 같이 요청마다 TraceContext 를 바인딩/해제
+     */
+    @Benchmark
+    public int requestInstrumented(ResponseBuffer buffer) throws IOException {
+        TraceContext.start(TRACEPARENT);
+        try {
+            timedCache.get(1L);
+            timedConverter.write(responseBody, MediaType.APPLICATION_JSON, buffer.reset());
+            return buffer.size();
+        } finally {
+            TraceContext.clear();
+        }
+    }
+
+    @Benchmark
+    public void counterRegisteredPerCall() {
+        Counter.builder("orders.created")
+            .description("총 생성된 주문 수")
+            .tag("status", "PENDING")
+            .register(meterRegistry)
+            .increment();
+    }
+
+    @Benchmark
+    public void counterPreRegistered() {
+        orderMetrics.orderCreated();
+    }
+}
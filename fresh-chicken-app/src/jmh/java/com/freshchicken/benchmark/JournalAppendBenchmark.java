@@ -0,0 +1,60 @@
+package com.freshchicken.benchmark;
+
+import com.freshchicken.journal.OrderEvent;
+import com.freshchicken.journal.OrderEventJournal;
+import com.freshchicken.model.Order.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 이벤트 저널 기록 처리량 벤치마크
+ *
+ * 단일 writer / 4 writer 동시 기록 (배치 fsync 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JournalAppendBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private OrderEventJournal journal;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start();
+        journal = context.getBean(OrderEventJournal.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long appendSingleWriter() {
+        return journal.append(OrderEvent.Type.STATUS_CHANGED, 1L, OrderStatus.PREPARING, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long appendFourWriters() {
+        return journal.append(OrderEvent.Type.STATUS_CHANGED, 1L, OrderStatus.PREPARING, System.currentTimeMillis());
+    }
+}
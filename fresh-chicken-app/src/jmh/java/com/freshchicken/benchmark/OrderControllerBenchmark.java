@@ -0,0 +1,58 @@
+package com.freshchicken.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freshchicken.controller.OrderController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderController 응답 생성 벤치마크
+ *
+ * 컨트롤러 호출 + 응답 Map 구성 + JSON 직렬화까지 측정합니다. (HTTP 처리 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderControllerBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private OrderController orderController;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start();
+        orderController = context.getBean(OrderController.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] getOrderResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(orderController.getOrder(1L).getBody());
+    }
+
+    @Benchmark
+    public byte[] getAllOrdersResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(orderController.getAllOrders(0, 10, "createdAt,desc").getBody());
+    }
+}
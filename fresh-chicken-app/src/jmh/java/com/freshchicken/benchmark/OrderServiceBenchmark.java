@@ -0,0 +1,90 @@
+package com.freshchicken.benchmark;
+
+import com.freshchicken.model.Order;
+import com.freshchicken.model.Order.OrderStatus;
+import com.freshchicken.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderService Hot Path 벤치마크
+ *
+ * - getOrderById: 캐시 hit / miss (miss 는 호출 전 해당 키를 evict)
+ * - createOrder / getAllOrders(페이징) / searchOrdersByCustomer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderServiceBenchmark {
+
+    private static final long HOT_ORDER_ID = 1L;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private Cache orderCache;
+    private Pageable firstPage;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start();
+        orderService = context.getBean(OrderService.class);
+        orderCache = context.getBean(CacheManager.class).getCache("orders");
+        firstPage = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        orderService.getOrderById(HOT_ORDER_ID);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order getOrderByIdCacheHit() {
+        return orderService.getOrderById(HOT_ORDER_ID);
+    }
+
+    @Benchmark
+    public Order getOrderByIdCacheMiss() {
+        long id = ThreadLocalRandom.current().nextLong(2, BenchmarkApplication.SEED_ORDERS + 1);
+        orderCache.evict(id);
+        return orderService.getOrderById(id);
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return orderService.createOrder(BenchmarkApplication.sampleOrder("벤치마크", OrderStatus.PENDING));
+    }
+
+    @Benchmark
+    public Page<Order> getAllOrders() {
+        return orderService.getAllOrders(firstPage);
+    }
+
+    @Benchmark
+    public Page<Order> searchOrdersByCustomer() {
+        return orderService.searchOrdersByCustomer("고객1", PageRequest.of(0, 10));
+    }
+}
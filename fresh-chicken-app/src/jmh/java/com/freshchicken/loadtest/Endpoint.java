@@ -0,0 +1,22 @@
+package com.freshchicken.loadtest;
+
+/**
+ * 부하 테스트 대상 엔드포인트
+ */
+enum Endpoint {
+    CREATE("POST /api/orders"),
+    GET("GET /api/orders/{id}"),
+    STATUS("PATCH /api/orders/{id}/status"),
+    LIST("GET /api/orders"),
+    SEARCH("GET /api/orders/search");
+
+    private final String description;
+
+    Endpoint(String description) {
+        this.description = description;
+    }
+
+    String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,81 @@
+package com.freshchicken.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Idempotency-Key 동시 중복 요청 검증
+ *
+ * 같은 Idempotency-Key 로 POST /api/orders 를 동시에 N 건 보내고,
+ * 모든 201 응답이 같은 주문 ID 를 반환하는지 확인합니다. (409 는 처리 중 응답으로 허용)
+ *
+ * 사용법: java -cp {jmh classpath} com.freshchicken.loadtest.IdempotencyCheck [url] [동시 요청 수]
+ */
+public final class IdempotencyCheck {
+
+    private IdempotencyCheck() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int duplicates = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        HttpClient httpClient = HttpClient.newHttpClient();
+        ObjectMapper objectMapper = new ObjectMapper();
+        String key = UUID.randomUUID().toString();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders"))
+            .header("Content-Type", "application/json")
+            .header("Idempotency-Key", key)
+            .POST(HttpRequest.BodyPublishers.ofString(
+                "{\"customerName\":\"중복검증\",\"menuItem\":\"후라이드 치킨\",\"quantity\":1,\"totalPrice\":18000}"))
+            .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(duplicates);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<HttpResponse<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < duplicates; i++) {
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            }));
+        }
+        startGate.countDown();
+
+        Set<Long> orderIds = new HashSet<>();
+        int created = 0;
+        int conflicts = 0;
+        int unexpected = 0;
+        for (Future<HttpResponse<String>> future : futures) {
+            HttpResponse<String> response = future.get();
+            if (response.statusCode() == 201) {
+                created++;
+                orderIds.add(objectMapper.readTree(response.body()).path("data").path("id").asLong());
+            } else if (response.statusCode() == 409) {
+                conflicts++;
+            } else {
+                unexpected++;
+            }
+        }
+        executor.shutdown();
+
+        System.out.printf("key=%s requests=%d created=%d conflicts=%d unexpected=%d distinctOrderIds=%s%n",
+            key, duplicates, created, conflicts, unexpected, orderIds);
+
+        boolean passed = orderIds.size() == 1 && unexpected == 0;
+        System.out.println(passed ? "PASS: 주문이 한 번만 생성되었습니다" : "FAIL: 중복 주문이 생성되었습니다");
+        System.exit(passed ? 0 : 1);
+    }
+}
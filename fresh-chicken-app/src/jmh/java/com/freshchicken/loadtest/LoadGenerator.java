@@ -0,0 +1,236 @@
+package com.freshchicken.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * /api/orders 부하 생성기
+ *
+ * 모드:
+ * - closed : concurrency 개 워커가 응답을 받은 뒤 다음 요청 (처리량 한계 측정)
+ * - open   : rate(req/s) 로 일정 간격 요청, 지연 시간은 예정 발사 시각 기준으로 측정
+ *            (서버가 느려져도 요청 간격이 밀리지 않아 Coordinated Omission 을 피함)
+ *
+ * 옵션 (--key=value):
+ *   url=http://localhost:8080  mode=open  rate=200  concurrency=64
+ *   duration=60  warmup=10  mix=create=20,get=50,status=15,list=10,search=5
+ *   report-interval=0 (초, 0 보다 크면 구간별 "INTERVAL {구간 시작 epoch ms} {요청 수} {p99 ms}" 출력)
+ *
+ * 사용법: java -cp {jmh classpath} com.freshchicken.loadtest.LoadGenerator --mode=open --rate=300
+ */
+public final class LoadGenerator {
+
+    private final HttpClient httpClient;
+    private final OrderClient orderClient;
+    private final LoadMix mix;
+    private final String mode;
+    private final int rate;
+    private final int concurrency;
+
+    private final Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+
+    /** 구간별 보고용 (전체 엔드포인트 합산) */
+    private final Recorder intervalRecorder = new Recorder(3);
+
+    private LoadGenerator(Map<String, String> options) {
+        this.mode = options.getOrDefault("mode", "open");
+        this.rate = Integer.parseInt(options.getOrDefault("rate", "200"));
+        this.concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate 는 0 보다 커야 합니다: " + rate);
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency 는 0 보다 커야 합니다: " + concurrency);
+        }
+        this.mix = LoadMix.parse(options.getOrDefault("mix", LoadMix.DINNER_RUSH));
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(Math.max(4, concurrency / 4)))
+            .build();
+        this.orderClient = new OrderClient(httpClient, options.getOrDefault("url", "http://localhost:8080"));
+
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new Recorder(3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(pair[0], pair.length > 1 ? pair[1] : "true");
+        }
+
+        LoadGenerator generator = new LoadGenerator(options);
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "60"));
+
+        generator.orderClient.seed();
+
+        int reportInterval = Integer.parseInt(options.getOrDefault("report-interval", "0"));
+        if (reportInterval > 0) {
+            generator.startIntervalReporter(reportInterval);
+        }
+
+        System.out.printf("워밍업 %d초 (mode=%s, rate=%d, concurrency=%d)%n",
+            warmup, generator.mode, generator.rate, generator.concurrency);
+        generator.run(warmup);
+        generator.reset();
+
+        System.out.printf("측정 %d초%n", duration);
+        long elapsedNanos = generator.run(duration);
+        generator.report(elapsedNanos);
+        System.exit(0);
+    }
+
+    /**
+     * 구간 p99 출력 (startup-benchmark.sh 에서 p99 안정화 시점 판단에 사용)
+     */
+    private void startIntervalReporter(int seconds) {
+        long[] windowStart = {System.currentTimeMillis()};
+        intervalRecorder.reset();
+        Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "interval-reporter");
+            thread.setDaemon(true);
+            return thread;
+        }).scheduleAtFixedRate(() -> {
+            long now = System.currentTimeMillis();
+            Histogram histogram = intervalRecorder.getIntervalHistogram();
+            System.out.printf("INTERVAL %d %d %.2f%n",
+                windowStart[0], histogram.getTotalCount(), histogram.getValueAtPercentile(99) / 1000.0);
+            windowStart[0] = now;
+        }, seconds, seconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 부하 실행 후 실제 경과 시간(ns) 반환
+     *
+     * open 모드는 end 이후에도 진행 중인 요청이 모두 끝날 때까지 기다리므로 경과 시간이 duration 보다 길 수 있음
+     */
+    private long run(int seconds) throws InterruptedException {
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        if ("closed".equals(mode)) {
+            runClosedLoop(end);
+        } else {
+            runOpenLoop(end);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void runClosedLoop(long end) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < end) {
+                    Endpoint endpoint = mix.next();
+                    HttpRequest request = orderClient.request(endpoint);
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        record(endpoint, start, response, null);
+                    } catch (Exception e) {
+                        record(endpoint, start, null, e);
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.HOURS);
+    }
+
+    private void runOpenLoop(long end) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        Semaphore inFlight = new Semaphore(concurrency);
+
+        long intended = System.nanoTime();
+        while (intended < end) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            // 동시 요청 한도에 걸려도 지연 시간은 예정 시각부터 측정되므로 대기 시간이 반영됨
+            inFlight.acquire();
+            Endpoint endpoint = mix.next();
+            long scheduledAt = intended;
+            httpClient.sendAsync(orderClient.request(endpoint), HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, failure) -> {
+                    record(endpoint, scheduledAt, response, failure);
+                    inFlight.release();
+                });
+            intended += intervalNanos;
+        }
+        inFlight.acquire(concurrency);
+    }
+
+    private void record(Endpoint endpoint, long start, HttpResponse<byte[]> response, Throwable failure) {
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        recorders.get(endpoint).recordValue(latencyMicros);
+        intervalRecorder.recordValue(latencyMicros);
+        if (failure != null || response.statusCode() >= 400) {
+            errors.get(endpoint).increment();
+        } else {
+            orderClient.onResponse(endpoint, response);
+        }
+    }
+
+    private void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * 엔드포인트별 처리량 및 지연 시간 백분위 (ms), 처리량은 측정 구간의 실제 경과 시간 기준
+     */
+    private void report(long elapsedNanos) {
+        double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        System.out.printf("경과 %.2f초%n", seconds);
+        System.out.printf("%-32s %9s %7s %9s %8s %8s %8s %8s %8s%n",
+            "endpoint", "count", "errors", "req/s", "p50", "p90", "p99", "p99.9", "max");
+
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = recorders.get(endpoint).getIntervalHistogram();
+            long errorCount = errors.get(endpoint).sum();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            printRow(endpoint.getDescription(), histogram, errorCount, seconds);
+            total.add(histogram);
+            totalErrors += errorCount;
+        }
+        printRow("TOTAL", total, totalErrors, seconds);
+    }
+
+    private void printRow(String name, Histogram histogram, long errorCount, double seconds) {
+        System.out.printf("%-32s %9d %7d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+            name,
+            histogram.getTotalCount(),
+            errorCount,
+            histogram.getTotalCount() / seconds,
+            histogram.getValueAtPercentile(50) / 1000.0,
+            histogram.getValueAtPercentile(90) / 1000.0,
+            histogram.getValueAtPercentile(99) / 1000.0,
+            histogram.getValueAtPercentile(99.9) / 1000.0,
+            histogram.getMaxValue() / 1000.0);
+    }
+}
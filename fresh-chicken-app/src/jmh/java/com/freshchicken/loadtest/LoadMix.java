@@ -0,0 +1,57 @@
+package com.freshchicken.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 엔드포인트 호출 비율
+ *
+ * 기본값(저녁 피크): 주문 생성 20 / 주문 조회(폴링) 50 / 상태 변경 15 / 목록 10 / 검색 5
+ * 형식: "create=20,get=50,status=15,list=10,search=5"
+ */
+final class LoadMix {
+
+    static final String DINNER_RUSH = "create=20,get=50,status=15,list=10,search=5";
+
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private LoadMix(Map<Endpoint, Integer> weights) {
+        this.endpoints = weights.keySet().toArray(new Endpoint[0]);
+        this.cumulativeWeights = new int[endpoints.length];
+
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += weights.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("호출 비율의 합은 0보다 커야 합니다");
+        }
+        this.totalWeight = total;
+    }
+
+    static LoadMix parse(String spec) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : spec.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("잘못된 호출 비율 형식입니다: " + entry);
+            }
+            weights.put(Endpoint.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return new LoadMix(weights);
+    }
+
+    Endpoint next() {
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+}
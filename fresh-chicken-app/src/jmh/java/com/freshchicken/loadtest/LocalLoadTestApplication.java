@@ -0,0 +1,25 @@
+package com.freshchicken.loadtest;
+
+import com.freshchicken.benchmark.BenchmarkApplication;
+import org.springframework.boot.WebApplicationType;
+
+/**
+ * 부하 테스트 대상 로컬 서버
+ *
+ * H2(MySQL 모드) + In-process Redis 대체 구현으로 애플리케이션을 기동합니다.
+ * 요청 로그/저널 등 운영 경로는 그대로 활성화됩니다.
+ *
+ * 사용법: java -cp {jmh classpath} com.freshchicken.loadtest.LocalLoadTestApplication [port]
+ */
+public final class LocalLoadTestApplication {
+
+    private LocalLoadTestApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String port = args.length > 0 ? args[0] : "8080";
+        BenchmarkApplication.start(WebApplicationType.SERVLET,
+            "server.port=" + port,
+            "request-log.enabled=true");
+    }
+}
@@ -0,0 +1,122 @@
+package com.freshchicken.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freshchicken.model.Order.OrderStatus;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * /api/orders 요청 생성기
+ *
+ * 생성된 주문 ID 를 최근 ID_POOL_SIZE 개까지 보관하여 조회/상태 변경 대상으로 사용합니다.
+ */
+final class OrderClient {
+
+    private static final int ID_POOL_SIZE = 4096;
+
+    private static final OrderStatus[] STATUS_BUMPS = {
+        OrderStatus.CONFIRMED, OrderStatus.PREPARING, OrderStatus.READY};
+
+    private static final String[] MENU = {"후라이드 치킨", "양념 치킨", "간장 치킨", "반반 치킨"};
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AtomicLongArray knownIds = new AtomicLongArray(ID_POOL_SIZE);
+    private final AtomicLong knownIdCount = new AtomicLong();
+
+    OrderClient(HttpClient httpClient, String baseUrl) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * 기존 주문 ID 수집 (없으면 몇 건 생성)
+     */
+    void seed() throws Exception {
+        HttpResponse<byte[]> response = httpClient.send(
+            get("/api/orders?page=0&size=100"), HttpResponse.BodyHandlers.ofByteArray());
+        for (JsonNode order : objectMapper.readTree(response.body()).path("data")) {
+            remember(order.path("id").asLong());
+        }
+
+        for (int i = 0; i < 10 && knownIdCount.get() < 10; i++) {
+            onResponse(Endpoint.CREATE, httpClient.send(request(Endpoint.CREATE), HttpResponse.BodyHandlers.ofByteArray()));
+        }
+        if (knownIdCount.get() == 0) {
+            throw new IllegalStateException("조회 대상 주문을 준비하지 못했습니다: " + baseUrl);
+        }
+    }
+
+    HttpRequest request(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (endpoint) {
+            case CREATE -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(createBody(random)))
+                .build();
+            case GET -> get("/api/orders/" + randomKnownId(random));
+            case STATUS -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders/" + randomKnownId(random)
+                    + "/status?status=" + STATUS_BUMPS[random.nextInt(STATUS_BUMPS.length)]))
+                .timeout(Duration.ofSeconds(30))
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build();
+            case LIST -> get("/api/orders?page=" + random.nextInt(5) + "&size=10");
+            case SEARCH -> get("/api/orders/search?customerName="
+                + URLEncoder.encode("고객" + random.nextInt(100), StandardCharsets.UTF_8));
+        };
+    }
+
+    /**
+     * 생성 응답에서 주문 ID 수집
+     */
+    void onResponse(Endpoint endpoint, HttpResponse<byte[]> response) {
+        if (endpoint != Endpoint.CREATE || response.statusCode() != 201) {
+            return;
+        }
+        try {
+            remember(objectMapper.readTree(response.body()).path("data").path("id").asLong());
+        } catch (Exception ignored) {
+            // ID 수집 실패는 부하 측정에 영향 없음
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(30))
+            .GET()
+            .build();
+    }
+
+    private String createBody(ThreadLocalRandom random) {
+        int quantity = 1 + random.nextInt(3);
+        return "{\"customerName\":\"고객" + random.nextInt(100) + "\","
+            + "\"menuItem\":\"" + MENU[random.nextInt(MENU.length)] + "\","
+            + "\"quantity\":" + quantity + ","
+            + "\"totalPrice\":" + quantity * 18000 + "}";
+    }
+
+    private void remember(long id) {
+        if (id > 0) {
+            long index = knownIdCount.getAndIncrement();
+            knownIds.set((int) (index % ID_POOL_SIZE), id);
+        }
+    }
+
+    private long randomKnownId(ThreadLocalRandom random) {
+        long count = Math.min(knownIdCount.get(), ID_POOL_SIZE);
+        return knownIds.get(random.nextInt((int) count));
+    }
+}
@@ -1,5 +1,8 @@
 package com.freshchicken.config;
 
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.freshchicken.metrics.TimedCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -26,21 +29,34 @@ public class CacheConfig {
 
     /**
      * Redis Cache Manager 설정
+     * 
+     * 조회 시간 측정을 위해 TimedCacheManager 로 감쌈 (cache.lookup{tier=redis})
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, MeterRegistry meterRegistry) {
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+            .cacheDefaults(redisCacheConfiguration())
+            .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TimedCacheManager(redisCacheManager, "redis", meterRegistry);
+    }
+
+    /**
+     * 캐시 TTL 및 Key/Value 직렬화 설정
+     * 
+     * 벤치마크에서도 동일한 직렬화 경로를 사용하도록 분리
+     */
+    public static RedisCacheConfiguration redisCacheConfiguration() {
+        return RedisCacheConfiguration.defaultCacheConfig()
             .entryTtl(Duration.ofMinutes(5))  // 기본 TTL: 5분
             .serializeKeysWith(
                 RedisSerializationContext.SerializationPair.fromSerializer(
                     new StringRedisSerializer()))
             .serializeValuesWith(
                 RedisSerializationContext.SerializationPair.fromSerializer(
-                    new GenericJackson2JsonRedisSerializer()))
+                    new GenericJackson2JsonRedisSerializer()
+                        .configure(mapper -> mapper.registerModule(new JavaTimeModule()))))  // LocalDateTime 직렬화
             .disableCachingNullValues();  // null 값은 캐싱하지 않음
-
-        return RedisCacheManager.builder(connectionFactory)
-            .cacheDefaults(config)
-            .build();
     }
 }
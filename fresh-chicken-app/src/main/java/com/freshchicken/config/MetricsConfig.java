@@ -0,0 +1,76 @@
+package com.freshchicken.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freshchicken.metrics.TimedJacksonHttpMessageConverter;
+import com.freshchicken.metrics.TraceContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.prometheus.client.exemplars.DefaultExemplarSampler;
+import io.prometheus.client.exemplars.ExemplarSampler;
+import io.prometheus.client.exemplars.tracer.common.SpanContextSupplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Metrics 설정
+ *
+ * 단계별 Latency 측정:
+ * - Redis 캐시 조회  : cache.lookup (CacheConfig 에서 TimedCacheManager 로 감쌈)
+ * - Repository 메서드: spring.data.repository.invocations (Spring Boot 자동 계측)
+ * - Hikari 커넥션 대기: hikaricp.connections.acquire (Spring Boot 자동 계측)
+ * - JSON 직렬화      : http.json.encode
+ *
+ * Histogram 버킷에는 요청의 trace-id 를 Exemplar 로 첨부합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 기본 Jackson Converter 를 직렬화 시간 측정 Converter 로 교체
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                converters.set(i, new TimedJacksonHttpMessageConverter(objectMapper, meterRegistry));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Prometheus Exemplar Sampler (현재 요청의 {@link TraceContext} 사용)
+     *
+     * MeterRegistry 생성에 필요하므로 static 으로 선언하여 순환 참조를 피합니다.
+     */
+    @Bean
+    public static ExemplarSampler exemplarSampler() {
+        return new DefaultExemplarSampler(new SpanContextSupplier() {
+            @Override
+            public String getTraceId() {
+                TraceContext context = TraceContext.current();
+                return context != null ? context.getTraceId() : null;
+            }
+
+            @Override
+            public String getSpanId() {
+                TraceContext context = TraceContext.current();
+                return context != null ? context.getSpanId() : null;
+            }
+
+            @Override
+            public boolean isSampled() {
+                return TraceContext.current() != null;
+            }
+        });
+    }
+}
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -30,21 +32,27 @@ public class HealthController implements HealthIndicator {
 
     private final DataSource dataSource;
     private final RedisConnectionFactory redisConnectionFactory;
+    private final ApplicationAvailability applicationAvailability;
 
     /**
      * 기본 Health Check
      * 
      * Kubernetes Readiness Probe: /api/health
+     * Warm-up 이 끝나 Readiness 가 ACCEPTING_TRAFFIC 이 되기 전까지는 503 반환
      */
     @GetMapping
     public ResponseEntity<Map<String, Object>> health() {
+        boolean ready = applicationAvailability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC;
+        
         Map<String, Object> response = new HashMap<>();
-        response.put("status", "UP");
+        response.put("status", ready ? "UP" : "WARMING_UP");
         response.put("timestamp", LocalDateTime.now());
         response.put("application", "Fresh Chicken Order Platform");
         response.put("version", "1.0.0");
         
-        return ResponseEntity.ok(response);
+        return ready
+            ? ResponseEntity.ok(response)
+            : ResponseEntity.status(503).body(response);
     }
 
     /**
@@ -1,5 +1,8 @@
 package com.freshchicken.controller;
 
+import com.freshchicken.idempotency.IdempotencyInProgressException;
+import com.freshchicken.idempotency.IdempotencyKeyMismatchException;
+import com.freshchicken.idempotency.IdempotencyService;
 import com.freshchicken.model.Order;
 import com.freshchicken.model.Order.OrderStatus;
 import com.freshchicken.service.OrderService;
@@ -28,6 +31,8 @@ import java.util.Map;
  * - GET    /api/orders          : 주문 목록 조회
  * - DELETE /api/orders/{id}     : 주문 취소
  * - PATCH  /api/orders/{id}     : 주문 상태 변경
+ * 
+ * 생성/상태 변경은 Idempotency-Key 헤더가 있으면 중복 요청 시 최초 응답을 반환 (같은 키로 다른 요청이면 422)
  */
 @RestController
 @RequestMapping("/api/orders")
@@ -36,18 +41,30 @@ import java.util.Map;
 public class OrderController {
 
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * 주문 생성
      * 
      * @param order 주문 정보
+     * @param idempotencyKey 중복 요청 식별 키 (선택)
      * @return 생성된 주문
      */
     @PostMapping
     @Timed(value = "api.orders.create", description = "주문 생성 API 응답 시간")
-    public ResponseEntity<Map<String, Object>> createOrder(@Valid @RequestBody Order order) {
-        log.info("POST /api/orders - 주문 생성 요청: {}", order);
-        
+    public ResponseEntity<Map<String, Object>> createOrder(
+            @Valid @RequestBody Order order,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        log.debug("POST /api/orders - 주문 생성 요청: customerName={}, menuItem={}",
+            order.getCustomerName(), order.getMenuItem());
+        
+        if (idempotencyKey == null) {
+            return doCreateOrder(order);
+        }
+        return idempotencyService.execute("orders.create", idempotencyKey, order, () -> doCreateOrder(order));
+    }
+
+    private ResponseEntity<Map<String, Object>> doCreateOrder(Order order) {
         Order createdOrder = orderService.createOrder(order);
         
         Map<String, Object> response = new HashMap<>();
@@ -67,7 +84,7 @@ public class OrderController {
     @GetMapping("/{id}")
     @Timed(value = "api.orders.get", description = "주문 조회 API 응답 시간")
     public ResponseEntity<Map<String, Object>> getOrder(@PathVariable Long id) {
-        log.info("GET /api/orders/{} - 주문 조회 요청", id);
+        log.debug("GET /api/orders/{} - 주문 조회 요청", id);
         
         Order order = orderService.getOrderById(id);
         
@@ -93,7 +110,7 @@ public class OrderController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt,desc") String sort) {
         
-        log.info("GET /api/orders - 주문 목록 조회: page={}, size={}", page, size);
+        log.debug("GET /api/orders - 주문 목록 조회: page={}, size={}", page, size);
         
         String[] sortParams = sort.split(",");
         Sort.Direction direction = sortParams.length > 1 && sortParams[1].equalsIgnoreCase("asc") 
@@ -121,7 +138,7 @@ public class OrderController {
     @GetMapping("/status/{status}")
     @Timed(value = "api.orders.status", description = "상태별 주문 조회 API 응답 시간")
     public ResponseEntity<Map<String, Object>> getOrdersByStatus(@PathVariable OrderStatus status) {
-        log.info("GET /api/orders/status/{} - 상태별 주문 조회", status);
+        log.debug("GET /api/orders/status/{} - 상태별 주문 조회", status);
         
         List<Order> orders = orderService.getOrdersByStatus(status);
         
@@ -148,7 +165,7 @@ public class OrderController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         
-        log.info("GET /api/orders/search - 고객명 검색: customerName={}", customerName);
+        log.debug("GET /api/orders/search - 고객명 검색: customerName={}", customerName);
         
         Pageable pageable = PageRequest.of(page, size);
         Page<Order> orders = orderService.searchOrdersByCustomer(customerName, pageable);
@@ -169,7 +186,7 @@ public class OrderController {
     @GetMapping("/recent")
     @Timed(value = "api.orders.recent", description = "최근 주문 조회 API 응답 시간")
     public ResponseEntity<Map<String, Object>> getRecentOrders() {
-        log.info("GET /api/orders/recent - 최근 주문 조회");
+        log.debug("GET /api/orders/recent - 최근 주문 조회");
         
         List<Order> orders = orderService.getRecentOrders();
         
@@ -189,7 +206,7 @@ public class OrderController {
     @DeleteMapping("/{id}")
     @Timed(value = "api.orders.cancel", description = "주문 취소 API 응답 시간")
     public ResponseEntity<Map<String, Object>> cancelOrder(@PathVariable Long id) {
-        log.info("DELETE /api/orders/{} - 주문 취소 요청", id);
+        log.debug("DELETE /api/orders/{} - 주문 취소 요청", id);
         
         Order cancelledOrder = orderService.cancelOrder(id);
         
@@ -206,16 +223,26 @@ public class OrderController {
      * 
      * @param id 주문 ID
      * @param status 변경할 상태
+     * @param idempotencyKey 중복 요청 식별 키 (선택)
      * @return 업데이트된 주문
      */
     @PatchMapping("/{id}/status")
     @Timed(value = "api.orders.update", description = "주문 상태 변경 API 응답 시간")
     public ResponseEntity<Map<String, Object>> updateOrderStatus(
             @PathVariable Long id,
-            @RequestParam OrderStatus status) {
+            @RequestParam OrderStatus status,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         
-        log.info("PATCH /api/orders/{}/status - 상태 변경: status={}", id, status);
+        log.debug("PATCH /api/orders/{}/status - 상태 변경: status={}", id, status);
         
+        if (idempotencyKey == null) {
+            return doUpdateOrderStatus(id, status);
+        }
+        return idempotencyService.execute("orders.status." + id, idempotencyKey, status,
+            () -> doUpdateOrderStatus(id, status));
+    }
+
+    private ResponseEntity<Map<String, Object>> doUpdateOrderStatus(Long id, OrderStatus status) {
         Order updatedOrder = orderService.updateOrderStatus(id, status);
         
         Map<String, Object> response = new HashMap<>();
@@ -250,4 +277,26 @@ public class OrderController {
         
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
+
+    @ExceptionHandler(IdempotencyInProgressException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyInProgress(IdempotencyInProgressException e) {
+        log.warn("IdempotencyInProgressException: {}", e.getMessage());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyKeyMismatch(IdempotencyKeyMismatchException e) {
+        log.warn("IdempotencyKeyMismatchException: {}", e.getMessage());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
+    }
 }
@@ -0,0 +1,11 @@
+package com.freshchicken.idempotency;
+
+/**
+ * 같은 Idempotency-Key 요청이 다른 인스턴스에서 아직 처리 중인 경우
+ */
+public class IdempotencyInProgressException extends RuntimeException {
+
+    public IdempotencyInProgressException(String key) {
+        super("같은 Idempotency-Key 요청이 처리 중입니다: " + key);
+    }
+}
@@ -0,0 +1,11 @@
+package com.freshchicken.idempotency;
+
+/**
+ * 같은 Idempotency-Key 로 다른 내용의 요청이 들어온 경우
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    public IdempotencyKeyMismatchException(String key) {
+        super("Idempotency-Key 가 다른 요청에 이미 사용되었습니다: " + key);
+    }
+}
@@ -0,0 +1,426 @@
+package com.freshchicken.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 중복 요청 제거
+ *
+ * 처리 순서:
+ * 1. 로컬 캐시에 완료된 응답이 있으면 그대로 반환
+ * 2. 같은 인스턴스에서 처리 중이면 해당 실행 결과를 기다려 공유 (coalescing)
+ * 3. Redis 에 PENDING 마커를 SETNX 로 선점한 요청만 실제 실행
+ *    - 마커 값은 "PENDING:{지문}:{소유자 토큰}", lease 는 in-flight-timeout-ms
+ *    - 처리 중에는 소유자가 lease 를 계속 연장하고, 인스턴스가 죽으면 lease 후 만료되어 키가 오래 잠기지 않음
+ *    - 다른 인스턴스가 선점 중이면 완료될 때까지 폴링, 시간 초과 시 409
+ * 4. 2xx 응답만 Redis + 로컬 캐시에 idempotency.window-seconds 동안 저장
+ *    (실패 시 마커를 삭제하여 재시도가 다시 실행되도록 함)
+ *    - 저장/삭제는 Lua 스크립트로 소유자 토큰이 일치할 때만 수행 (다른 인스턴스의 마커를 덮어쓰거나 지우지 않음)
+ *
+ * 키마다 요청 본문의 SHA-256 지문을 함께 저장하여, 같은 키로 다른 요청이 오면 재생하지 않고 422 로 거부합니다.
+ * Redis 장애 시에는 요청을 실패시키지 않고 로컬 coalescing 만으로 실행합니다 (idempotency.redis.fallback).
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String PENDING = "PENDING:";
+    private static final long POLL_INTERVAL_MS = 50;
+
+    /** KEYS[1] 값이 ARGV[1](소유자 마커)이면 ARGV[2] ms 로 만료 연장 */
+    static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
+    /** KEYS[1] 값이 ARGV[1](소유자 마커)이면 ARGV[2](최종 응답)로 교체, 만료 ARGV[3] ms */
+    static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 else return 0 end", Long.class);
+
+    /** KEYS[1] 값이 ARGV[1](소유자 마커)이면 삭제 */
+    static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, LocalEntry> localCache = new ConcurrentHashMap<>();
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService leaseRenewer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "idempotency-lease-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter coalesced;
+    private final Counter conflicts;
+    private final Counter mismatches;
+    private final Counter redisFallbacks;
+
+    @Value("${idempotency.window-seconds:86400}")
+    private long windowSeconds;
+
+    @Value("${idempotency.in-flight-timeout-ms:10000}")
+    private long inFlightTimeoutMs;
+
+    @Value("${idempotency.local-max-entries:10000}")
+    private int localMaxEntries;
+
+    public IdempotencyService(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.executed = requestCounter("executed", meterRegistry);
+        this.replayed = requestCounter("replayed", meterRegistry);
+        this.coalesced = requestCounter("coalesced", meterRegistry);
+        this.conflicts = requestCounter("conflict", meterRegistry);
+        this.mismatches = requestCounter("mismatch", meterRegistry);
+        this.redisFallbacks = Counter.builder("idempotency.redis.fallback")
+            .description("Redis 장애로 로컬 coalescing 만으로 처리한 횟수")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void close() {
+        leaseRenewer.shutdownNow();
+    }
+
+    private static Counter requestCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("idempotency.requests")
+            .description("Idempotency-Key 요청 처리 결과")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Idempotency-Key 기준으로 한 번만 실행
+     *
+     * @param scope 엔드포인트 구분 (예: "orders.create")
+     * @param key 클라이언트가 보낸 Idempotency-Key
+     * @param request 요청 지문 계산 대상 (요청 본문 또는 변경 파라미터)
+     * @param action 실제 처리
+     * @return 최초 응답 (중복 요청이면 저장된 응답)
+     */
+    public ResponseEntity<Map<String, Object>> execute(String scope, String key, Object request,
+                                                       Supplier<ResponseEntity<Map<String, Object>>> action) {
+        String storeKey = KEY_PREFIX + scope + ":" + key;
+        String fingerprint = fingerprint(request);
+
+        StoredResponse cached = getLocal(storeKey);
+        if (cached != null) {
+            verifyFingerprint(cached.fingerprint(), fingerprint, key);
+            replayed.increment();
+            return toResponse(cached);
+        }
+
+        InFlight current = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight existing = inFlight.putIfAbsent(storeKey, current);
+        if (existing != null) {
+            verifyFingerprint(existing.fingerprint(), fingerprint, key);
+            coalesced.increment();
+            return toResponse(await(existing.future(), key));
+        }
+
+        try {
+            // 첫 확인 이후 앞선 요청이 완료되어 inFlight 에서 빠졌을 수 있으므로 선점 후 다시 확인
+            StoredResponse response = getLocal(storeKey);
+            if (response != null) {
+                verifyFingerprint(response.fingerprint(), fingerprint, key);
+                replayed.increment();
+            } else {
+                response = executeOnce(storeKey, key, fingerprint, action);
+            }
+            current.future().complete(response);
+            return toResponse(response);
+        } catch (RuntimeException e) {
+            current.future().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(storeKey, current);
+        }
+    }
+
+    private StoredResponse executeOnce(String storeKey, String key, String fingerprint,
+                                       Supplier<ResponseEntity<Map<String, Object>>> action) {
+        String marker = PENDING + fingerprint + ":" + UUID.randomUUID();
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue()
+                .setIfAbsent(storeKey, marker, Duration.ofMillis(inFlightTimeoutMs));
+        } catch (DataAccessException e) {
+            log.warn("Idempotency 마커 선점 실패, 로컬 처리로 전환: {}", e.getMessage());
+            redisFallbacks.increment();
+            return executeLocally(storeKey, fingerprint, action);
+        }
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            StoredResponse stored = awaitRemote(storeKey, key, fingerprint);
+            replayed.increment();
+            putLocal(storeKey, stored);
+            return stored;
+        }
+
+        StoredResponse response;
+        ScheduledFuture<?> renewal = scheduleRenewal(storeKey, marker);
+        try {
+            response = toStored(action.get(), fingerprint);
+        } catch (RuntimeException e) {
+            renewal.cancel(false);
+            releaseMarker(storeKey, marker);
+            throw e;
+        }
+        renewal.cancel(false);
+        executed.increment();
+
+        if (response.isSuccessful()) {
+            completeMarker(storeKey, marker, response);
+            putLocal(storeKey, response);
+        } else {
+            releaseMarker(storeKey, marker);
+        }
+        return response;
+    }
+
+    /**
+     * Redis 없이 실행 (같은 인스턴스 내 중복만 제거)
+     */
+    private StoredResponse executeLocally(String storeKey, String fingerprint,
+                                          Supplier<ResponseEntity<Map<String, Object>>> action) {
+        StoredResponse response = toStored(action.get(), fingerprint);
+        executed.increment();
+        if (response.isSuccessful()) {
+            putLocal(storeKey, response);
+        }
+        return response;
+    }
+
+    /**
+     * 처리 중에는 lease 의 1/3 주기로 마커 만료 시간을 연장
+     *
+     * 처리 시간이 in-flight-timeout-ms 를 넘어도 마커가 만료되어 다른 인스턴스가 같은 키를 다시 실행하지 않게 합니다.
+     * (인스턴스가 죽으면 연장이 멈추므로 마커는 lease 후 만료됨)
+     */
+    private ScheduledFuture<?> scheduleRenewal(String storeKey, String marker) {
+        long period = Math.max(1, inFlightTimeoutMs / 3);
+        return leaseRenewer.scheduleAtFixedRate(() -> {
+            try {
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(storeKey),
+                    marker, String.valueOf(inFlightTimeoutMs));
+                if (!Long.valueOf(1).equals(renewed)) {
+                    log.warn("Idempotency 마커 연장 실패 (소유권 없음): {}", storeKey);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Idempotency 마커 연장 실패: {}", e.getMessage());
+                redisFallbacks.increment();
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 마커를 아직 소유하고 있을 때만 최종 응답으로 교체 (window TTL 적용)
+     */
+    private void completeMarker(String storeKey, String marker, StoredResponse response) {
+        try {
+            Long stored = redisTemplate.execute(COMPLETE_SCRIPT, List.of(storeKey),
+                marker, response.encode(), String.valueOf(TimeUnit.SECONDS.toMillis(windowSeconds)));
+            if (!Long.valueOf(1).equals(stored)) {
+                log.warn("Idempotency 마커 소유권을 잃어 응답을 저장하지 않음: {}", storeKey);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Idempotency 응답 저장 실패, 로컬 캐시에만 보관: {}", e.getMessage());
+            redisFallbacks.increment();
+        }
+    }
+
+    /**
+     * 마커를 아직 소유하고 있을 때만 삭제 (재시도가 다시 실행되도록 함)
+     */
+    private void releaseMarker(String storeKey, String marker) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(storeKey), marker);
+        } catch (DataAccessException e) {
+            // 마커는 in-flight-timeout-ms 후 만료되므로 재시도는 그 이후 다시 실행됨
+            log.warn("Idempotency 마커 삭제 실패: {}", e.getMessage());
+            redisFallbacks.increment();
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 처리 중인 요청의 결과를 Redis 에서 폴링
+     */
+    private StoredResponse awaitRemote(String storeKey, String key, String fingerprint) {
+        long deadline = System.currentTimeMillis() + inFlightTimeoutMs;
+        while (true) {
+            String value;
+            try {
+                value = redisTemplate.opsForValue().get(storeKey);
+            } catch (DataAccessException e) {
+                // 다른 인스턴스가 선점 중이므로 여기서 실행하지 않고 재시도를 유도
+                log.warn("Idempotency 결과 조회 실패: {}", e.getMessage());
+                redisFallbacks.increment();
+                conflicts.increment();
+                throw new IdempotencyInProgressException(key);
+            }
+            if (value == null) {
+                // 선점한 요청이 실패하여 마커가 삭제됨 - 클라이언트 재시도로 다시 실행되도록 함
+                conflicts.increment();
+                throw new IdempotencyInProgressException(key);
+            }
+            if (!value.startsWith(PENDING)) {
+                StoredResponse stored = StoredResponse.decode(value);
+                verifyFingerprint(stored.fingerprint(), fingerprint, key);
+                return stored;
+            }
+            verifyFingerprint(markerFingerprint(value), fingerprint, key);
+            if (System.currentTimeMillis() > deadline) {
+                conflicts.increment();
+                throw new IdempotencyInProgressException(key);
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IdempotencyInProgressException(key);
+            }
+        }
+    }
+
+    /**
+     * "PENDING:{fingerprint}:{owner}" 에서 fingerprint 추출
+     */
+    private static String markerFingerprint(String marker) {
+        int end = marker.indexOf(':', PENDING.length());
+        return marker.substring(PENDING.length(), end < 0 ? marker.length() : end);
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> future, String key) {
+        try {
+            return future.get(inFlightTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            conflicts.increment();
+            throw new IdempotencyInProgressException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyInProgressException(key);
+        }
+    }
+
+    private void verifyFingerprint(String stored, String fingerprint, String key) {
+        if (!stored.equals(fingerprint)) {
+            mismatches.increment();
+            throw new IdempotencyKeyMismatchException(key);
+        }
+    }
+
+    /**
+     * 요청 지문 (JSON 직렬화 결과의 SHA-256, hex)
+     */
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 지문을 계산할 수 없습니다", e);
+        }
+    }
+
+    private StoredResponse toStored(ResponseEntity<Map<String, Object>> response, String fingerprint) {
+        try {
+            return new StoredResponse(response.getStatusCode().value(), fingerprint,
+                objectMapper.writeValueAsString(response.getBody()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화에 실패했습니다", e);
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> toResponse(StoredResponse stored) {
+        try {
+            Map<String, Object> body = objectMapper.readValue(stored.body(), new TypeReference<>() {});
+            return ResponseEntity.status(stored.status()).body(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다", e);
+        }
+    }
+
+    private StoredResponse getLocal(String storeKey) {
+        LocalEntry entry = localCache.get(storeKey);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            localCache.remove(storeKey, entry);
+            return null;
+        }
+        return entry.response();
+    }
+
+    private void putLocal(String storeKey, StoredResponse response) {
+        if (localCache.size() >= localMaxEntries) {
+            evictLocal();
+        }
+        localCache.put(storeKey, new LocalEntry(response, System.currentTimeMillis() + windowSeconds * 1000));
+    }
+
+    /**
+     * 만료된 항목 제거, 그래도 가득 차 있으면 절반을 비움 (Redis 에 원본이 남아 있으므로 안전)
+     */
+    private void evictLocal() {
+        long now = System.currentTimeMillis();
+        localCache.values().removeIf(entry -> entry.expiresAt() < now);
+        if (localCache.size() < localMaxEntries) {
+            return;
+        }
+
+        Iterator<String> keys = localCache.keySet().iterator();
+        while (localCache.size() >= localMaxEntries / 2 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record LocalEntry(StoredResponse response, long expiresAt) {
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<StoredResponse> future) {
+    }
+}
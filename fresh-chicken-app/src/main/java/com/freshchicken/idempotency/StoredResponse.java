@@ -0,0 +1,24 @@
+package com.freshchicken.idempotency;
+
+/**
+ * 저장된 최초 응답 (HTTP 상태 + 요청 지문 + JSON 본문)
+ *
+ * Redis 저장 형식: "{status}:{fingerprint}:{body}"
+ */
+record StoredResponse(int status, String fingerprint, String body) {
+
+    boolean isSuccessful() {
+        return status >= 200 && status < 300;
+    }
+
+    String encode() {
+        return status + ":" + fingerprint + ":" + body;
+    }
+
+    static StoredResponse decode(String value) {
+        int first = value.indexOf(':');
+        int second = value.indexOf(':', first + 1);
+        return new StoredResponse(Integer.parseInt(value.substring(0, first)),
+            value.substring(first + 1, second), value.substring(second + 1));
+    }
+}
@@ -0,0 +1,80 @@
+package com.freshchicken.journal;
+
+/**
+ * 주문 이벤트 저널 Reader
+ *
+ * 오프셋 기반 재생/추적(tailing)을 지원합니다.
+ * - poll()  : 다음 이벤트 1건 (없으면 null)
+ * - drain() : 최대 maxEvents 건을 handler 로 전달 (할당 없음)
+ *
+ * 스레드 안전하지 않으므로 소비자 스레드마다 별도 인스턴스를 사용합니다.
+ * 보관 기간이 지나 삭제된 구간을 읽으려 하면 IllegalStateException 이 발생하므로
+ * {@link OrderEventJournal#startOffset()} 이후로 seek 해야 합니다.
+ */
+public class JournalReader {
+
+    private final OrderEventJournal journal;
+
+    private long position;
+
+    JournalReader(OrderEventJournal journal, long offset) {
+        this.journal = journal;
+        seek(offset);
+    }
+
+    /**
+     * 다음 이벤트 조회
+     *
+     * @return 이벤트 (따라잡은 경우 null)
+     */
+    public OrderEvent poll() {
+        OrderEvent[] holder = new OrderEvent[1];
+        int read = drain((offset, type, orderId, status, timestamp) ->
+            holder[0] = new OrderEvent(offset, type, orderId, status, timestamp), 1);
+        return read == 0 ? null : holder[0];
+    }
+
+    /**
+     * 기록된 이벤트를 handler 로 전달
+     *
+     * @param handler 이벤트 콜백
+     * @param maxEvents 최대 처리 건수
+     * @return 처리한 이벤트 수
+     */
+    public int drain(OrderEventHandler handler, int maxEvents) {
+        long limit = journal.writeOffset();
+        int count = 0;
+        while (count < maxEvents && position < limit) {
+            journal.read(position, handler);
+            position += OrderEvent.RECORD_SIZE;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 읽기 위치 이동
+     *
+     * @param offset 레코드 경계 오프셋
+     */
+    public void seek(long offset) {
+        if (offset < journal.startOffset() || offset % OrderEvent.RECORD_SIZE != 0 || offset > journal.writeOffset()) {
+            throw new IllegalArgumentException("유효하지 않은 저널 오프셋입니다: " + offset);
+        }
+        this.position = offset;
+    }
+
+    /**
+     * 다음에 읽을 오프셋 (소비자 체크포인트 저장용)
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * 아직 읽지 않은 이벤트 수
+     */
+    public long lag() {
+        return (journal.writeOffset() - position) / OrderEvent.RECORD_SIZE;
+    }
+}
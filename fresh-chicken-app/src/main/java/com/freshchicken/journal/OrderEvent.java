@@ -0,0 +1,60 @@
+package com.freshchicken.journal;
+
+import com.freshchicken.model.Order.OrderStatus;
+import lombok.Value;
+
+/**
+ * 주문 이벤트 (저널 레코드)
+ *
+ * 고정 길이 바이너리 포맷 (RECORD_SIZE = 22 bytes):
+ * - type      : 1 byte  (1: CREATED, 2: STATUS_CHANGED, 0: 미기록 영역)
+ * - orderId   : 8 bytes
+ * - status    : 1 byte  (OrderStatus code, 상수 순서와 무관한 고정 값)
+ * - timestamp : 8 bytes (epoch millis)
+ * - checksum  : 4 bytes (앞 18 bytes 의 CRC32, 복구 시 부분 기록 레코드 판별)
+ */
+@Value
+public class OrderEvent {
+
+    public static final int PAYLOAD_SIZE = 1 + 8 + 1 + 8;
+
+    public static final int RECORD_SIZE = PAYLOAD_SIZE + 4;
+
+    /** 저널 내 논리 오프셋 (레코드 시작 위치) */
+    long offset;
+
+    Type type;
+
+    long orderId;
+
+    OrderStatus status;
+
+    long timestamp;
+
+    /**
+     * 이벤트 타입
+     */
+    public enum Type {
+        CREATED((byte) 1),
+        STATUS_CHANGED((byte) 2);
+
+        private final byte code;
+
+        Type(byte code) {
+            this.code = code;
+        }
+
+        public byte getCode() {
+            return code;
+        }
+
+        public static Type fromCode(byte code) {
+            for (Type type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            throw new IllegalStateException("알 수 없는 이벤트 타입입니다: " + code);
+        }
+    }
+}
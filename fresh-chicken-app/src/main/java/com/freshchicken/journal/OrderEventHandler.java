@@ -0,0 +1,15 @@
+package com.freshchicken.journal;
+
+import com.freshchicken.journal.OrderEvent.Type;
+import com.freshchicken.model.Order.OrderStatus;
+
+/**
+ * 저널 이벤트 콜백
+ *
+ * 레코드 필드를 기본형으로 전달하므로 이벤트 객체 할당 없이 소비할 수 있습니다.
+ */
+@FunctionalInterface
+public interface OrderEventHandler {
+
+    void onEvent(long offset, Type type, long orderId, OrderStatus status, long timestamp);
+}
@@ -0,0 +1,449 @@
+package com.freshchicken.journal;
+
+import com.freshchicken.journal.OrderEvent.Type;
+import com.freshchicken.model.Order.OrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 주문 이벤트 저널 (Append-only, Memory-mapped)
+ *
+ * 주문 생성/상태 변경을 고정 길이 바이너리 레코드로 세그먼트 파일에 기록합니다.
+ * - 세그먼트: {journal.directory}/{baseOffset}.log (mmap)
+ * - fsync: journal.flush-interval-ms 주기 또는 journal.flush-batch-size 누적 시 배치 수행
+ *          (세그먼트 전환 시 이전 세그먼트는 즉시 fsync 하므로 복구 시 마지막 세그먼트만 검사)
+ * - 읽기: {@link #reader(long)} 로 오프셋부터 재생/추적 (매핑 메모리에서 직접 읽음)
+ * - 보관: 최근 journal.max-segments 개 세그먼트만 유지, 오래된 세그먼트는 매핑 해제 후 삭제
+ *
+ * 저널은 Pod 별 로컬 기록입니다. Kubernetes 에서는 emptyDir 에 기록되므로 Pod 재스케줄 시 사라지며,
+ * 같은 Pod 의 프로세스 재시작(장애 복구)에서만 이어서 사용됩니다. 영구 보관용 이벤트 저장소가 아닙니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderEventJournal {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${journal.directory:${java.io.tmpdir}/fresh-chicken/journal}")
+    private String directory;
+
+    @Value("${journal.segment-size:67108864}")
+    private int segmentSize;
+
+    @Value("${journal.flush-interval-ms:50}")
+    private long flushIntervalMs;
+
+    @Value("${journal.flush-batch-size:256}")
+    private int flushBatchSize;
+
+    @Value("${journal.max-segments:4}")
+    private int maxSegments;
+
+    private final Map<Integer, MappedByteBuffer> segments = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Object appendLock = new Object();
+
+    /** appendLock 안에서만 사용 */
+    private final byte[] recordBytes = new byte[OrderEvent.PAYLOAD_SIZE];
+    private final ByteBuffer recordBuffer = ByteBuffer.wrap(recordBytes);
+    private final CRC32 crc = new CRC32();
+
+    private Path journalDir;
+    private long segmentCapacity;
+    private ScheduledExecutorService flusher;
+    private Timer appendTimer;
+    private Counter appendFailures;
+
+    /** 다음 레코드가 기록될 오프셋 (이 값 미만까지가 읽기 가능 영역) */
+    private volatile long writeOffset;
+
+    /** fsync 완료된 오프셋 */
+    private volatile long flushedOffset;
+
+    /** 보관 중인 가장 오래된 오프셋 (이 값 미만은 삭제됨) */
+    private volatile long startOffset;
+
+    /**
+     * 세그먼트 복구 및 flush 스레드 시작
+     */
+    @PostConstruct
+    public void open() throws IOException {
+        if (!enabled) {
+            log.info("주문 이벤트 저널 비활성화");
+            return;
+        }
+
+        if (maxSegments < 2) {
+            throw new IllegalStateException("journal.max-segments 는 2 이상이어야 합니다: " + maxSegments);
+        }
+
+        // 레코드가 세그먼트 경계를 넘지 않도록 레코드 크기의 배수로 맞춤
+        segmentCapacity = (long) (segmentSize / OrderEvent.RECORD_SIZE) * OrderEvent.RECORD_SIZE;
+        journalDir = Paths.get(directory);
+        Files.createDirectories(journalDir);
+
+        appendTimer = Timer.builder("orders.journal.append")
+            .description("주문 이벤트 저널 기록 시간")
+            .publishPercentiles(0.5, 0.99, 0.999)
+            .register(meterRegistry);
+        appendFailures = Counter.builder("orders.journal.append.failures")
+            .description("커밋 후 저널 기록 실패 수")
+            .register(meterRegistry);
+
+        recover();
+
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "order-journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+
+        log.info("주문 이벤트 저널 시작: directory={}, startOffset={}, writeOffset={}", journalDir, startOffset, writeOffset);
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 이벤트 기록
+     *
+     * 롤백된 변경이 저널에 남지 않도록 활성 트랜잭션이 있으면 afterCommit 시점에 기록합니다.
+     * 이미 커밋된 주문이 저널 오류로 실패 응답(→ 클라이언트 재시도)을 받지 않도록 예외는 기록 후 무시합니다.
+     */
+    public void appendAfterCommit(Type type, long orderId, OrderStatus status) {
+        if (!enabled) {
+            return;
+        }
+
+        long timestamp = System.currentTimeMillis();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    appendSafely(type, orderId, status, timestamp);
+                }
+            });
+        } else {
+            appendSafely(type, orderId, status, timestamp);
+        }
+    }
+
+    private void appendSafely(Type type, long orderId, OrderStatus status, long timestamp) {
+        try {
+            append(type, orderId, status, timestamp);
+        } catch (RuntimeException e) {
+            appendFailures.increment();
+            log.error("주문 이벤트 저널 기록 실패: type={}, orderId={}, status={}", type, orderId, status, e);
+        }
+    }
+
+    /**
+     * 이벤트 기록
+     *
+     * @return 기록된 레코드의 오프셋 (비활성화 시 -1)
+     */
+    public long append(Type type, long orderId, OrderStatus status, long timestamp) {
+        if (!enabled) {
+            return -1;
+        }
+
+        long start = System.nanoTime();
+        long offset;
+        synchronized (appendLock) {
+            offset = writeOffset;
+            int position = (int) (offset % segmentCapacity);
+            if (position == 0 && offset > 0) {
+                // 세그먼트 전환: 이전 세그먼트를 확정하여 복구 대상을 마지막 세그먼트로 한정
+                segment(segmentIndex(offset) - 1, false).force();
+                retainSegments(segmentIndex(offset));
+            }
+            MappedByteBuffer buffer = segment(segmentIndex(offset), true);
+
+            recordBuffer.put(0, type.getCode());
+            recordBuffer.putLong(1, orderId);
+            recordBuffer.put(9, status.getCode());
+            recordBuffer.putLong(10, timestamp);
+            crc.reset();
+            crc.update(recordBytes, 0, OrderEvent.PAYLOAD_SIZE);
+
+            buffer.put(position, recordBytes);
+            buffer.putInt(position + OrderEvent.PAYLOAD_SIZE, (int) crc.getValue());
+
+            writeOffset = offset + OrderEvent.RECORD_SIZE;
+        }
+
+        if (writeOffset - flushedOffset >= (long) flushBatchSize * OrderEvent.RECORD_SIZE
+                && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // 종료 중: close() 에서 마지막 flush 수행
+                flushRequested.set(false);
+            }
+        }
+
+        appendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return offset;
+    }
+
+    /**
+     * 지정 오프셋부터 읽는 Reader 생성
+     *
+     * @param offset 시작 오프셋 ({@link #startOffset()}: 보관 중인 처음부터, {@link #writeOffset()}: 신규 이벤트만)
+     */
+    public JournalReader reader(long offset) {
+        if (!enabled) {
+            throw new IllegalStateException("주문 이벤트 저널이 비활성화되어 있습니다");
+        }
+        return new JournalReader(this, offset);
+    }
+
+    public long writeOffset() {
+        return writeOffset;
+    }
+
+    public long flushedOffset() {
+        return flushedOffset;
+    }
+
+    public long startOffset() {
+        return startOffset;
+    }
+
+    /**
+     * 오프셋 위치의 레코드를 매핑 메모리에서 직접 읽어 handler 에 전달
+     */
+    void read(long offset, OrderEventHandler handler) {
+        MappedByteBuffer buffer = segment(segmentIndex(offset), false);
+        int position = (int) (offset % segmentCapacity);
+
+        handler.onEvent(
+            offset,
+            Type.fromCode(buffer.get(position)),
+            buffer.getLong(position + 1),
+            OrderStatus.fromCode(buffer.get(position + 9)),
+            buffer.getLong(position + 10));
+    }
+
+    /**
+     * 미기록 구간을 디스크에 동기화 (배치 fsync)
+     */
+    void flush() {
+        flushRequested.set(false);
+        long target = writeOffset;
+        if (target == flushedOffset) {
+            return;
+        }
+
+        try {
+            // 이미 삭제된 세그먼트는 건너뜀
+            long from = Math.max(flushedOffset, startOffset);
+            for (int index = segmentIndex(from); index <= segmentIndex(target - 1); index++) {
+                segment(index, false).force();
+            }
+            flushedOffset = target;
+        } catch (Exception e) {
+            log.error("주문 이벤트 저널 flush 실패: target={}", target, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        log.info("주문 이벤트 저널 종료: writeOffset={}", writeOffset);
+    }
+
+    private int segmentIndex(long offset) {
+        return (int) (offset / segmentCapacity);
+    }
+
+    private MappedByteBuffer segment(int index, boolean create) {
+        MappedByteBuffer buffer = segments.get(index);
+        if (buffer != null) {
+            return buffer;
+        }
+        if (!create) {
+            // 보관 기간이 지나 삭제된 세그먼트 (Reader 가 startOffset 보다 뒤처진 경우)
+            throw new IllegalStateException("존재하지 않는 저널 세그먼트입니다: " + index);
+        }
+        return segments.computeIfAbsent(index, this::mapSegment);
+    }
+
+    private MappedByteBuffer mapSegment(int index) {
+        Path path = segmentPath(index);
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트 매핑 실패: " + path, e);
+        }
+    }
+
+    /**
+     * 최근 maxSegments 개 (newestIndex 포함) 이전 세그먼트를 매핑 해제하고 파일 삭제
+     *
+     * MappedByteBuffer 는 명시적으로 해제할 수 없으므로 참조를 제거하여 GC 시 해제되게 하고,
+     * 파일은 매핑이 남아 있어도 삭제할 수 있으므로 즉시 삭제합니다.
+     */
+    private void retainSegments(int newestIndex) {
+        int oldestRetained = newestIndex - maxSegments + 1;
+        if (oldestRetained <= segmentIndex(startOffset)) {
+            return;
+        }
+
+        startOffset = oldestRetained * segmentCapacity;
+        for (Integer index : List.copyOf(segments.keySet())) {
+            if (index < oldestRetained) {
+                segments.remove(index);
+                deleteSegmentFile(index);
+            }
+        }
+        log.info("오래된 저널 세그먼트 삭제: startOffset={}", startOffset);
+    }
+
+    private void deleteSegmentFile(int index) {
+        Path path = segmentPath(index);
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("저널 세그먼트 삭제 실패: {}", path, e);
+        }
+    }
+
+    private Path segmentPath(int index) {
+        return journalDir.resolve(String.format("%020d.log", index * segmentCapacity));
+    }
+
+    /**
+     * 기존 세그먼트를 매핑하고 마지막 세그먼트를 스캔하여 writeOffset 복구
+     */
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(journalDir)) {
+            files = stream
+                .filter(path -> path.getFileName().toString().endsWith(".log"))
+                .sorted()
+                .toList();
+        }
+
+        int lastIndex = -1;
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long baseOffset = Long.parseLong(name.substring(0, name.length() - 4));
+            if (baseOffset % segmentCapacity != 0) {
+                throw new IllegalStateException("세그먼트 크기가 기존 저널과 다릅니다: " + file);
+            }
+            int index = segmentIndex(baseOffset);
+            segment(index, true);
+            lastIndex = Math.max(lastIndex, index);
+        }
+
+        if (lastIndex < 0) {
+            startOffset = 0;
+            writeOffset = 0;
+        } else {
+            startOffset = segments.keySet().stream().min(Integer::compare).orElse(lastIndex) * segmentCapacity;
+            retainSegments(lastIndex);
+            MappedByteBuffer last = segments.get(lastIndex);
+            int position = 0;
+            while (position + OrderEvent.RECORD_SIZE <= segmentCapacity && isValidRecord(last, position)) {
+                position += OrderEvent.RECORD_SIZE;
+            }
+            clearTail(last, position, lastIndex);
+            writeOffset = lastIndex * segmentCapacity + position;
+        }
+        flushedOffset = writeOffset;
+    }
+
+    /**
+     * 복구 위치 이후의 잔여 데이터 제거
+     *
+     * mmap 페이지는 순서 없이 디스크에 반영되므로 레코드 N 이 유실되고 N+1 만 남을 수 있습니다.
+     * 첫 번째 무효 레코드의 바이트 값과 관계없이 이후 구간을 모두 비워,
+     * 새 기록이 N 을 덮어쓴 뒤 다시 장애가 나도 남아 있던 N+1 이 재생되지 않게 합니다.
+     */
+    private void clearTail(MappedByteBuffer buffer, int position, int index) {
+        int end = (int) segmentCapacity;
+        while (end > position && buffer.get(end - 1) == 0) {
+            end--;
+        }
+        if (end == position) {
+            return;
+        }
+
+        log.warn("복구 위치 이후 잔여 데이터 초기화: offset={}, bytes={}", index * segmentCapacity + position, end - position);
+        for (int i = position; i < end; i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.force();
+    }
+
+    /**
+     * 타입/상태 값 범위와 CRC32 가 모두 맞는 레코드인지 확인
+     */
+    private boolean isValidRecord(MappedByteBuffer buffer, int position) {
+        byte type = buffer.get(position);
+        byte status = buffer.get(position + 9);
+        if (type != Type.CREATED.getCode() && type != Type.STATUS_CHANGED.getCode()) {
+            return false;
+        }
+        if (!isKnownStatus(status)) {
+            return false;
+        }
+
+        byte[] payload = new byte[OrderEvent.PAYLOAD_SIZE];
+        buffer.get(position, payload);
+        CRC32 checksum = new CRC32();
+        checksum.update(payload, 0, payload.length);
+        return (int) checksum.getValue() == buffer.getInt(position + OrderEvent.PAYLOAD_SIZE);
+    }
+
+    private static boolean isKnownStatus(byte code) {
+        for (OrderStatus status : OrderStatus.values()) {
+            if (status.getCode() == code) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,77 @@
+package com.freshchicken.logging;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 요청 로그 런타임 설정 Actuator Endpoint
+ *
+ * 쓰기 작업이 있으므로 management 포트(기본 8081)에서만 제공되며, Service/Ingress 로는 노출되지 않습니다.
+ * 운영 중 변경: kubectl port-forward pod/{pod} 8081:8081
+ *
+ * - GET    /actuator/requestlog                                   : 현재 설정 조회
+ * - POST   /actuator/requestlog {"sampleRate":0.1}                 : 기본 샘플링 비율 변경
+ * - POST   /actuator/requestlog {"endpoint":"GET /api/orders/{id}","sampleRate":1.0}
+ *                                                                   : 엔드포인트별 비율 변경
+ * - POST   /actuator/requestlog {"slowThresholdMs":200,"enabled":true}
+ * - DELETE /actuator/requestlog?endpoint=GET /api/orders/{id}       : 엔드포인트별 설정 제거
+ */
+@Component
+@Endpoint(id = "requestlog")
+@RequiredArgsConstructor
+public class RequestLogEndpoint {
+
+    private final RequestLogSettings settings;
+    private final RequestLogWriter writer;
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("enabled", settings.isEnabled());
+        response.put("sampleRate", settings.getSampleRate());
+        response.put("slowThresholdMs", settings.getSlowThresholdMs());
+        response.put("endpoints", new TreeMap<>(settings.getEndpoints()));
+        response.put("bufferCapacity", writer.capacity());
+        response.put("dropped", writer.dropped());
+        return response;
+    }
+
+    @WriteOperation
+    public Map<String, Object> configure(@Nullable Boolean enabled, @Nullable Double sampleRate,
+                                         @Nullable String endpoint, @Nullable Long slowThresholdMs) {
+        if (sampleRate != null && (sampleRate < 0 || sampleRate > 1)) {
+            throw new IllegalArgumentException("sampleRate 는 0.0 ~ 1.0 사이여야 합니다: " + sampleRate);
+        }
+        if (endpoint != null && sampleRate == null) {
+            throw new IllegalArgumentException("endpoint 설정에는 sampleRate 가 필요합니다");
+        }
+
+        if (enabled != null) {
+            settings.setEnabled(enabled);
+        }
+        if (slowThresholdMs != null) {
+            settings.setSlowThresholdMs(slowThresholdMs);
+        }
+        if (endpoint != null) {
+            settings.getEndpoints().put(endpoint, sampleRate);
+        } else if (sampleRate != null) {
+            settings.setSampleRate(sampleRate);
+        }
+        return settings();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> reset(String endpoint) {
+        settings.getEndpoints().remove(endpoint);
+        return settings();
+    }
+}
@@ -0,0 +1,83 @@
+package com.freshchicken.logging;
+
+import com.freshchicken.metrics.TraceContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 로그 Filter
+ *
+ * 요청당 하나의 구조화 레코드를 남깁니다.
+ * 샘플링 판단은 요청 완료 후 수행하므로 에러/지연 요청은 샘플링과 무관하게 항상 기록됩니다.
+ * 요청 스레드에 {@link TraceContext} 를 바인딩하여 로그와 메트릭 Exemplar 의 trace-id 를 맞춥니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    private static final String UNMATCHED = "UNMATCHED";
+
+    private final RequestLogSettings settings;
+    private final RequestLogWriter writer;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        TraceContext trace = TraceContext.start(request.getHeader("traceparent"));
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            long durationNanos = System.nanoTime() - start;
+            int status = failure != null ? 500 : response.getStatus();
+            String endpoint = request.getMethod() + " " + resolvePattern(request);
+
+            String reason = settings.decide(endpoint, status, failure != null, durationNanos);
+            if (reason != null) {
+                record(request, trace, endpoint, status, durationNanos, reason, failure);
+            }
+            TraceContext.clear();
+        }
+    }
+
+    private void record(HttpServletRequest request, TraceContext trace, String endpoint, int status,
+                        long durationNanos, String reason, Throwable failure) {
+        RequestLogRecord record = writer.claim();
+        if (record == null) {
+            return;
+        }
+        record.timestamp = System.currentTimeMillis();
+        record.traceId = trace.getTraceId();
+        record.method = request.getMethod();
+        record.endpoint = endpoint;
+        record.uri = request.getRequestURI();
+        record.status = status;
+        record.durationNanos = durationNanos;
+        record.reason = reason;
+        record.error = failure != null ? failure.getClass().getSimpleName() + ": " + failure.getMessage() : null;
+        writer.publish(record);
+    }
+
+    /**
+     * 매칭된 URI 패턴 (/api/orders/{id}) - 경로 변수별로 키가 늘어나지 않도록 패턴 사용
+     */
+    private String resolvePattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMATCHED;
+    }
+}
@@ -0,0 +1,29 @@
+package com.freshchicken.logging;
+
+/**
+ * 링 버퍼 슬롯 (재사용되는 가변 레코드)
+ *
+ * 요청 스레드가 claim 후 필드를 채우고 publish 하며, 소비 스레드가 읽은 뒤 다시 재사용됩니다.
+ */
+final class RequestLogRecord {
+
+    long sequence;
+    long timestamp;
+    String traceId;
+    String method;
+    String endpoint;
+    String uri;
+    int status;
+    long durationNanos;
+    String reason;
+    String error;
+
+    void clear() {
+        traceId = null;
+        method = null;
+        endpoint = null;
+        uri = null;
+        reason = null;
+        error = null;
+    }
+}
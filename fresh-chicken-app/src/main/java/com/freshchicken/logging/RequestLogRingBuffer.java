@@ -0,0 +1,96 @@
+package com.freshchicken.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Lock-free 링 버퍼 (다중 생산자 / 단일 소비자)
+ *
+ * - 생산자: CAS 로 시퀀스를 확보 → 슬롯 기록 → published[i] 에 시퀀스 기록 (release)
+ * - 소비자: published[i] 가 기대 시퀀스와 같을 때만 읽음
+ * - 버퍼가 가득 차면 요청 스레드를 막지 않고 레코드를 버림 (dropped 카운트)
+ */
+final class RequestLogRingBuffer {
+
+    private final RequestLogRecord[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+
+    private final AtomicLong claimSequence = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    /** 다음에 소비할 시퀀스 (소비 스레드만 기록) */
+    private volatile long consumeSequence;
+
+    RequestLogRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1) << 1);
+        this.slots = new RequestLogRecord[capacity];
+        this.published = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new RequestLogRecord();
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * 슬롯 확보
+     *
+     * @return 기록할 슬롯 (버퍼가 가득 찬 경우 null)
+     */
+    RequestLogRecord tryClaim() {
+        long sequence;
+        do {
+            sequence = claimSequence.get();
+            if (sequence - consumeSequence >= slots.length) {
+                dropped.increment();
+                return null;
+            }
+        } while (!claimSequence.compareAndSet(sequence, sequence + 1));
+
+        RequestLogRecord record = slots[(int) (sequence & mask)];
+        record.sequence = sequence;
+        return record;
+    }
+
+    void publish(RequestLogRecord record) {
+        published.lazySet((int) (record.sequence & mask), record.sequence);
+    }
+
+    /**
+     * 발행된 레코드를 순서대로 소비
+     *
+     * @return 소비한 레코드 수
+     */
+    int drain(Consumer<RequestLogRecord> consumer, int maxRecords) {
+        long next = consumeSequence;
+        int count = 0;
+        while (count < maxRecords) {
+            int index = (int) (next & mask);
+            if (published.get(index) != next) {
+                break;
+            }
+            RequestLogRecord record = slots[index];
+            consumer.accept(record);
+            record.clear();
+            next++;
+            count++;
+            consumeSequence = next;
+        }
+        return count;
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    long pending() {
+        return claimSequence.get() - consumeSequence;
+    }
+}
@@ -0,0 +1,63 @@
+package com.freshchicken.logging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 로그 설정 (request-log.*)
+ *
+ * 런타임에 /actuator/requestlog 로 변경 가능하므로 모든 값은 volatile/Concurrent 로 보관합니다.
+ * - sample-rate       : 기본 샘플링 비율 (0.0 ~ 1.0)
+ * - endpoints         : 엔드포인트별 샘플링 비율 (키: "GET /api/orders/{id}")
+ * - slow-threshold-ms : 이 시간 이상 걸린 요청은 항상 기록
+ * - 5xx / 예외 발생 요청은 항상 기록
+ */
+@Component
+@ConfigurationProperties(prefix = "request-log")
+@Getter
+@Setter
+public class RequestLogSettings {
+
+    private volatile boolean enabled = true;
+
+    private volatile double sampleRate = 0.01;
+
+    private volatile long slowThresholdMs = 500;
+
+    private int bufferSize = 8192;
+
+    private Map<String, Double> endpoints = new ConcurrentHashMap<>();
+
+    public void setEndpoints(Map<String, Double> endpoints) {
+        this.endpoints = new ConcurrentHashMap<>(endpoints);
+    }
+
+    /**
+     * 기록 사유 결정
+     *
+     * @return 기록 사유 (기록하지 않으면 null)
+     */
+    String decide(String endpoint, int status, boolean failed, long durationNanos) {
+        if (!enabled) {
+            return null;
+        }
+        if (failed || status >= 500) {
+            return "error";
+        }
+        if (durationNanos >= slowThresholdMs * 1_000_000L) {
+            return "slow";
+        }
+
+        double rate = endpoints.getOrDefault(endpoint, sampleRate);
+        if (rate > 0 && (rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate)) {
+            return "sampled";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,130 @@
+package com.freshchicken.logging;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청 로그 비동기 Writer
+ *
+ * 요청 스레드는 링 버퍼에 레코드만 기록하고,
+ * 전용 스레드가 버퍼를 비우며 "request-log" 로거에 JSON 한 줄로 출력합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestLogWriter {
+
+    private static final Logger requestLog = LoggerFactory.getLogger("request-log");
+
+    private static final int DRAIN_BATCH = 256;
+
+    private final RequestLogSettings settings;
+    private final MeterRegistry meterRegistry;
+
+    private final StringBuilder line = new StringBuilder(256);
+
+    private RequestLogRingBuffer buffer;
+    private Thread worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        buffer = new RequestLogRingBuffer(settings.getBufferSize());
+
+        Gauge.builder("request.log.dropped", buffer, RequestLogRingBuffer::dropped)
+            .description("버퍼 포화로 버려진 요청 로그 수")
+            .register(meterRegistry);
+        Gauge.builder("request.log.pending", buffer, RequestLogRingBuffer::pending)
+            .description("출력 대기 중인 요청 로그 수")
+            .register(meterRegistry);
+
+        running = true;
+        worker = new Thread(this::run, "request-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 슬롯 확보 (요청 스레드에서 호출)
+     *
+     * @return 기록할 슬롯 (버퍼 포화 시 null)
+     */
+    RequestLogRecord claim() {
+        return buffer.tryClaim();
+    }
+
+    void publish(RequestLogRecord record) {
+        buffer.publish(record);
+    }
+
+    long dropped() {
+        return buffer.dropped();
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    private void run() {
+        while (running || buffer.pending() > 0) {
+            if (buffer.drain(this::write, DRAIN_BATCH) == 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+    }
+
+    private void write(RequestLogRecord record) {
+        line.setLength(0);
+        line.append("{\"ts\":\"").append(Instant.ofEpochMilli(record.timestamp))
+            .append("\",\"traceId\":\"").append(record.traceId)
+            .append("\",\"method\":\"").append(record.method)
+            .append("\",\"endpoint\":");
+        appendString(record.endpoint);
+        line.append(",\"uri\":");
+        appendString(record.uri);
+        line.append(",\"status\":").append(record.status)
+            .append(",\"durationMs\":").append(record.durationNanos / 1000 / 1000.0)
+            .append(",\"reason\":\"").append(record.reason).append('"');
+        if (record.error != null) {
+            line.append(",\"error\":");
+            appendString(record.error);
+        }
+        line.append('}');
+
+        if ("error".equals(record.reason)) {
+            requestLog.warn(line.toString());
+        } else {
+            requestLog.info(line.toString());
+        }
+    }
+
+    private void appendString(String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(' ');
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+}
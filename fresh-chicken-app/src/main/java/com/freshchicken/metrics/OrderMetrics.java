@@ -0,0 +1,36 @@
+package com.freshchicken.metrics;
+
+import com.freshchicken.model.Order.OrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 비즈니스 메트릭
+ *
+ * 호출마다 Registry 조회가 일어나지 않도록 기동 시 한 번만 등록하고 참조를 보관합니다.
+ */
+@Component
+public class OrderMetrics {
+
+    private final Counter ordersCreated;
+    private final Counter ordersCancelled;
+
+    public OrderMetrics(MeterRegistry meterRegistry) {
+        this.ordersCreated = Counter.builder("orders.created")
+            .description("총 생성된 주문 수")
+            .tag("status", OrderStatus.PENDING.name())
+            .register(meterRegistry);
+        this.ordersCancelled = Counter.builder("orders.cancelled")
+            .description("총 취소된 주문 수")
+            .register(meterRegistry);
+    }
+
+    public void orderCreated() {
+        ordersCreated.increment();
+    }
+
+    public void orderCancelled() {
+        ordersCancelled.increment();
+    }
+}
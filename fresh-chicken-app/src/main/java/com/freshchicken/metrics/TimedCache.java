@@ -0,0 +1,109 @@
+package com.freshchicken.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 조회 시간 측정 Decorator
+ *
+ * Timer: cache.lookup{cache, tier, result=hit|miss}
+ */
+public class TimedCache implements Cache {
+
+    private final Cache delegate;
+    private final Timer hitTimer;
+    private final Timer missTimer;
+
+    public TimedCache(Cache delegate, String tier, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.hitTimer = lookupTimer(delegate.getName(), tier, "hit", meterRegistry);
+        this.missTimer = lookupTimer(delegate.getName(), tier, "miss", meterRegistry);
+    }
+
+    private static Timer lookupTimer(String cache, String tier, String result, MeterRegistry meterRegistry) {
+        return Timer.builder("cache.lookup")
+            .description("캐시 계층별 조회 시간")
+            .tag("cache", cache)
+            .tag("tier", tier)
+            .tag("result", result)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        long start = System.nanoTime();
+        ValueWrapper value = delegate.get(key);
+        (value != null ? hitTimer : missTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        long start = System.nanoTime();
+        T value = delegate.get(key, type);
+        (value != null ? hitTimer : missTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
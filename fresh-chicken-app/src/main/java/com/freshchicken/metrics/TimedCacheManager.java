@@ -0,0 +1,47 @@
+package com.freshchicken.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시 조회 시간을 측정하는 CacheManager Decorator
+ *
+ * 캐시별 {@link TimedCache} 를 한 번만 생성하여 재사용합니다.
+ */
+public class TimedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final String tier;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TimedCacheManager(CacheManager delegate, String tier, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.tier = tier;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> new TimedCache(target, tier, meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
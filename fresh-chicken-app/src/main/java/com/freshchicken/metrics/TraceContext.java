@@ -0,0 +1,81 @@
+package com.freshchicken.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 단위 Trace Context
+ *
+ * W3C traceparent 헤더가 있으면 trace-id 를 이어받고, 없으면 새로 생성합니다.
+ * 요청 스레드에 바인딩되어 요청 로그와 Prometheus Exemplar 에서 사용됩니다.
+ */
+public final class TraceContext {
+
+    private static final ThreadLocal<TraceContext> CURRENT = new ThreadLocal<>();
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String traceId;
+    private final String spanId;
+
+    private TraceContext(String traceId, String spanId) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+    }
+
+    /**
+     * 현재 스레드에 Trace Context 바인딩
+     *
+     * @param traceparent W3C traceparent 헤더 값 (nullable)
+     */
+    public static TraceContext start(String traceparent) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String traceId = parseTraceId(traceparent);
+        if (traceId == null) {
+            traceId = hex(random.nextLong()) + hex(random.nextLong());
+        }
+
+        TraceContext context = new TraceContext(traceId, hex(random.nextLong()));
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static TraceContext current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    /**
+     * traceparent: {version}-{trace-id(32)}-{parent-id(16)}-{flags}
+     */
+    private static String parseTraceId(String traceparent) {
+        if (traceparent == null || traceparent.length() < 55 || traceparent.charAt(2) != '-') {
+            return null;
+        }
+        for (int i = 3; i < 35; i++) {
+            if (Character.digit(traceparent.charAt(i), 16) < 0) {
+                return null;
+            }
+        }
+        return traceparent.substring(3, 35);
+    }
+
+    private static String hex(long value) {
+        char[] chars = new char[16];
+        for (int i = 15; i >= 0; i--) {
+            chars[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        return new String(chars);
+    }
+}
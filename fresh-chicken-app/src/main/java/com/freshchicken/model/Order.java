@@ -66,23 +66,41 @@ public class Order implements Serializable {
 
     /**
      * 주문 상태
+     *
+     * code 는 주문 이벤트 저널의 바이너리 레코드에 기록되는 값이므로 기존 상수의 code 를 바꾸지 않습니다.
+     * (상수 순서 변경/추가와 무관하게 유지, 새 상수는 사용하지 않은 code 를 부여)
      */
     public enum OrderStatus {
-        PENDING("주문 대기"),
-        CONFIRMED("주문 확인"),
-        PREPARING("조리 중"),
-        READY("픽업 대기"),
-        COMPLETED("완료"),
-        CANCELLED("취소");
-
+        PENDING((byte) 0, "주문 대기"),
+        CONFIRMED((byte) 1, "주문 확인"),
+        PREPARING((byte) 2, "조리 중"),
+        READY((byte) 3, "픽업 대기"),
+        COMPLETED((byte) 4, "완료"),
+        CANCELLED((byte) 5, "취소");
+
+        private final byte code;
         private final String description;
 
-        OrderStatus(String description) {
+        OrderStatus(byte code, String description) {
+            this.code = code;
             this.description = description;
         }
 
+        public byte getCode() {
+            return code;
+        }
+
         public String getDescription() {
             return description;
         }
+
+        public static OrderStatus fromCode(byte code) {
+            for (OrderStatus status : values()) {
+                if (status.code == code) {
+                    return status;
+                }
+            }
+            throw new IllegalStateException("알 수 없는 주문 상태 코드입니다: " + code);
+        }
     }
 }
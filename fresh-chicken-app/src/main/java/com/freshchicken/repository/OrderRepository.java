@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,6 +26,11 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     List<Order> findByStatus(OrderStatus status);
 
+    /**
+     * 여러 상태의 주문 조회 (페이징, count 쿼리 없음)
+     */
+    List<Order> findByStatusIn(Collection<OrderStatus> statuses, Pageable pageable);
+
     /**
      * 고객명으로 주문 조회
      */
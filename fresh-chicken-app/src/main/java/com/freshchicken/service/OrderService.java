@@ -1,10 +1,11 @@
 package com.freshchicken.service;
 
+import com.freshchicken.journal.OrderEvent;
+import com.freshchicken.journal.OrderEventJournal;
+import com.freshchicken.metrics.OrderMetrics;
 import com.freshchicken.model.Order;
 import com.freshchicken.model.Order.OrderStatus;
 import com.freshchicken.repository.OrderRepository;
-import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -23,6 +24,7 @@ import java.util.List;
  * - 주문 생성/조회/취소
  * - Redis 캐싱 적용
  * - Prometheus 메트릭 수집
+ * - 주문 이벤트 저널 기록 (생성/상태 변경)
  */
 @Service
 @Transactional(readOnly = true)
@@ -31,7 +33,8 @@ import java.util.List;
 public class OrderService {
 
     private final OrderRepository orderRepository;
-    private final MeterRegistry meterRegistry;
+    private final OrderMetrics orderMetrics;
+    private final OrderEventJournal orderEventJournal;
 
     /**
      * 주문 생성
@@ -41,18 +44,17 @@ public class OrderService {
      */
     @Transactional
     public Order createOrder(Order order) {
-        log.info("주문 생성 시작: customerName={}, menuItem={}", 
+        log.debug("주문 생성 시작: customerName={}, menuItem={}", 
             order.getCustomerName(), order.getMenuItem());
         
         order.setStatus(OrderStatus.PENDING);
         Order savedOrder = orderRepository.save(order);
         
         // Prometheus 메트릭 증가
-        Counter.builder("orders.created")
-            .description("총 생성된 주문 수")
-            .tag("status", OrderStatus.PENDING.name())
-            .register(meterRegistry)
-            .increment();
+        orderMetrics.orderCreated();
+        
+        orderEventJournal.appendAfterCommit(
+            OrderEvent.Type.CREATED, savedOrder.getId(), savedOrder.getStatus());
         
         log.info("주문 생성 완료: orderId={}", savedOrder.getId());
         return savedOrder;
@@ -66,7 +68,7 @@ public class OrderService {
      */
     @Cacheable(value = "orders", key = "#id")
     public Order getOrderById(Long id) {
-        log.info("주문 조회: orderId={}", id);
+        log.debug("주문 조회: orderId={}", id);
         return orderRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다: " + id));
     }
@@ -78,7 +80,7 @@ public class OrderService {
      * @return 주문 목록
      */
     public Page<Order> getAllOrders(Pageable pageable) {
-        log.info("전체 주문 목록 조회: page={}, size={}", 
+        log.debug("전체 주문 목록 조회: page={}, size={}", 
             pageable.getPageNumber(), pageable.getPageSize());
         return orderRepository.findAll(pageable);
     }
@@ -90,7 +92,7 @@ public class OrderService {
      * @return 주문 목록
      */
     public List<Order> getOrdersByStatus(OrderStatus status) {
-        log.info("상태별 주문 조회: status={}", status);
+        log.debug("상태별 주문 조회: status={}", status);
         return orderRepository.findByStatus(status);
     }
 
@@ -102,7 +104,7 @@ public class OrderService {
      * @return 주문 목록
      */
     public Page<Order> searchOrdersByCustomer(String customerName, Pageable pageable) {
-        log.info("고객명 검색: customerName={}", customerName);
+        log.debug("고객명 검색: customerName={}", customerName);
         return orderRepository.findByCustomerNameContaining(customerName, pageable);
     }
 
@@ -115,7 +117,7 @@ public class OrderService {
     @Transactional
     @CacheEvict(value = "orders", key = "#id")
     public Order cancelOrder(Long id) {
-        log.info("주문 취소 시작: orderId={}", id);
+        log.debug("주문 취소 시작: orderId={}", id);
         
         Order order = getOrderById(id);
         
@@ -131,10 +133,10 @@ public class OrderService {
         Order cancelledOrder = orderRepository.save(order);
         
         // Prometheus 메트릭 증가
-        Counter.builder("orders.cancelled")
-            .description("총 취소된 주문 수")
-            .register(meterRegistry)
-            .increment();
+        orderMetrics.orderCancelled();
+        
+        orderEventJournal.appendAfterCommit(
+            OrderEvent.Type.STATUS_CHANGED, id, OrderStatus.CANCELLED);
         
         log.info("주문 취소 완료: orderId={}", id);
         return cancelledOrder;
@@ -154,7 +156,10 @@ public class OrderService {
         
         Order order = getOrderById(id);
         order.setStatus(status);
-        return orderRepository.save(order);
+        Order updatedOrder = orderRepository.save(order);
+        
+        orderEventJournal.appendAfterCommit(OrderEvent.Type.STATUS_CHANGED, id, status);
+        return updatedOrder;
     }
 
     /**
@@ -163,7 +168,7 @@ public class OrderService {
      * @return 최근 10개 주문
      */
     public List<Order> getRecentOrders() {
-        log.info("최근 주문 조회");
+        log.debug("최근 주문 조회");
         return orderRepository.findTop10ByOrderByCreatedAtDesc();
     }
 }
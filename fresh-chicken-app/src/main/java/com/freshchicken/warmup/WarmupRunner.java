@@ -0,0 +1,197 @@
+package com.freshchicken.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freshchicken.controller.OrderController;
+import com.freshchicken.model.Order;
+import com.freshchicken.model.Order.OrderStatus;
+import com.freshchicken.repository.OrderRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Readiness 전 Warm-up
+ *
+ * ApplicationRunner 는 Readiness 가 ACCEPTING_TRAFFIC 으로 바뀌기 전에 실행되므로,
+ * 신규 Pod(HPA Scale-out)가 트래픽을 받기 전에 다음을 수행합니다.
+ * 1. HikariCP 커넥션 풀 채우기
+ * 2. 진행 중인 주문으로 orders 캐시 프라이밍
+ * 3. 읽기 전용 합성 워크로드로 OrderController/OrderService 경로 JIT 워밍업
+ *
+ * 전체 소요 시간은 warmup.budget-ms 를 넘지 않으며, 실패해도 기동은 계속됩니다.
+ * Scale-out 시점에는 DB 가 이미 병목이므로 DB 조회는 warmup.max-db-queries 로 제한합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final List<OrderStatus> ACTIVE_STATUSES = List.of(
+        OrderStatus.PENDING, OrderStatus.CONFIRMED, OrderStatus.PREPARING, OrderStatus.READY);
+
+    private final DataSource dataSource;
+    private final CacheManager cacheManager;
+    private final OrderRepository orderRepository;
+    private final OrderController orderController;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${warmup.budget-ms:20000}")
+    private long budgetMs;
+
+    @Value("${warmup.iterations:20000}")
+    private int iterations;
+
+    @Value("${warmup.cache-prime-limit:200}")
+    private int cachePrimeLimit;
+
+    @Value("${warmup.max-db-queries:50}")
+    private int maxDbQueries;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            log.info("Warm-up 비활성화");
+            return;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        log.info("Warm-up 시작: budgetMs={}, iterations={}, maxDbQueries={}", budgetMs, iterations, maxDbQueries);
+
+        int connections = 0;
+        List<Order> activeOrders = List.of();
+        int executed = 0;
+        try {
+            connections = fillConnectionPool(deadline);
+            activeOrders = primeOrderCache(deadline);
+            executed = replaySyntheticWorkload(activeOrders, deadline);
+        } catch (Exception e) {
+            log.warn("Warm-up 중 오류 발생 (기동은 계속 진행): {}", e.getMessage());
+        }
+
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("app.warmup.duration")
+            .description("Readiness 전 Warm-up 소요 시간")
+            .register(meterRegistry)
+            .record(elapsed, TimeUnit.NANOSECONDS);
+
+        log.info("Warm-up 완료: elapsedMs={}, connections={}, cachedOrders={}, iterations={}",
+            TimeUnit.NANOSECONDS.toMillis(elapsed), connections, activeOrders.size(), executed);
+    }
+
+    /**
+     * HikariCP 풀을 최대 크기까지 채움 (deadline 이후에는 추가 획득 중단)
+     *
+     * 커넥션을 동시에 점유해야 풀이 새 커넥션을 생성하므로 모두 획득 후 반납합니다.
+     */
+    private int fillConnectionPool(long deadline) throws Exception {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return 0;
+        }
+
+        List<Connection> connections = new ArrayList<>();
+        try {
+            while (connections.size() < hikari.getMaximumPoolSize() && System.nanoTime() < deadline) {
+                connections.add(hikari.getConnection());
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+        return connections.size();
+    }
+
+    /**
+     * 진행 중인 주문을 orders 캐시에 적재 (단일 페이지 조회)
+     *
+     * 공유 Redis 캐시이므로 putIfAbsent 로 다른 Pod 가 갱신/적재한 값을 덮어쓰지 않습니다.
+     * (조회 후 다른 Pod 의 @CacheEvict 가 먼저 실행된 경우의 오래된 값은 TTL 내에서만 유지)
+     */
+    private List<Order> primeOrderCache(long deadline) {
+        Cache cache = cacheManager.getCache("orders");
+        if (cache == null || cachePrimeLimit <= 0 || System.nanoTime() > deadline) {
+            return List.of();
+        }
+
+        List<Order> activeOrders = orderRepository.findByStatusIn(
+            ACTIVE_STATUSES, PageRequest.of(0, cachePrimeLimit, Sort.by(Sort.Direction.DESC, "updatedAt")));
+        for (Order order : activeOrders) {
+            if (System.nanoTime() > deadline) {
+                break;
+            }
+            cache.putIfAbsent(order.getId(), order);
+        }
+        return activeOrders;
+    }
+
+    /**
+     * 읽기 전용 API 경로 + JSON 직렬화를 반복 호출하여 JIT 컴파일 유도
+     *
+     * 1. DB 를 조회하는 목록/검색 경로는 warmup.max-db-queries 까지만 호출
+     * 2. 이후 캐시에 적재된 주문 조회와 엔티티 직렬화를 warmup.iterations 회 또는 budget 소진 시까지 반복
+     *    (C2 컴파일 임계값인 수천~1만 회 호출을 넘겨야 인터프리터/C1 코드로 트래픽을 받지 않음)
+     */
+    private int replaySyntheticWorkload(List<Order> activeOrders, long deadline) throws Exception {
+        // getAllOrders(목록 + count) 2회, getRecentOrders 1회, searchOrders(목록 + count) 2회
+        final int queriesPerRound = 5;
+        int dbQueries = 0;
+        while (dbQueries + queriesPerRound <= maxDbQueries && System.nanoTime() < deadline) {
+            objectMapper.writeValueAsBytes(orderController.getAllOrders(0, 10, "createdAt,desc").getBody());
+            objectMapper.writeValueAsBytes(orderController.getRecentOrders().getBody());
+            objectMapper.writeValueAsBytes(orderController.searchOrders("warmup", 0, 10).getBody());
+            dbQueries += queriesPerRound;
+        }
+
+        // 진행 중인 주문이 없으면 직렬화 경로만 합성 주문으로 워밍업
+        List<Order> samples = activeOrders.isEmpty() ? List.of(syntheticOrder()) : activeOrders;
+        List<Order> page = samples.subList(0, Math.min(10, samples.size()));
+
+        int executed = 0;
+        while (executed < iterations && System.nanoTime() < deadline) {
+            if (!activeOrders.isEmpty()) {
+                Long id = activeOrders.get(executed % activeOrders.size()).getId();
+                objectMapper.writeValueAsBytes(orderController.getOrder(id).getBody());
+            }
+            objectMapper.writeValueAsBytes(Map.of("success", true, "data", page));
+            executed++;
+        }
+        return executed;
+    }
+
+    private static Order syntheticOrder() {
+        LocalDateTime now = LocalDateTime.now();
+        return Order.builder()
+            .id(0L)
+            .customerName("warmup")
+            .menuItem("후라이드 치킨")
+            .quantity(1)
+            .totalPrice(18000)
+            .status(OrderStatus.PENDING)
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+    }
+}
@@ -0,0 +1,327 @@
+package com.freshchicken.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyServiceTest {
+
+    private static final int THREADS = 16;
+    private static final String SCOPE = "orders.create";
+    private static final String KEY = "key-1";
+    private static final String STORE_KEY = "idempotency:" + SCOPE + ":" + KEY;
+    private static final Map<String, Object> REQUEST = Map.of("menuItem", "후라이드");
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        meterRegistry = new SimpleMeterRegistry();
+        idempotencyService = new IdempotencyService(redisTemplate, new ObjectMapper(), meterRegistry);
+        ReflectionTestUtils.setField(idempotencyService, "windowSeconds", 86400L);
+        ReflectionTestUtils.setField(idempotencyService, "inFlightTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(idempotencyService, "localMaxEntries", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        idempotencyService.close();
+    }
+
+    @Test
+    void concurrentRequestsWithSameKeyExecuteOnce() throws Exception {
+        AtomicReference<String> marker = acquireMarker();
+        AtomicReference<Object[]> completed = stubScript(IdempotencyService.COMPLETE_SCRIPT, 1L);
+
+        AtomicInteger invocations = new AtomicInteger();
+        List<ResponseEntity<Map<String, Object>>> responses = runConcurrently(() -> {
+            invocations.incrementAndGet();
+            sleep(200);
+            return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("success", true, "id", 1));
+        });
+
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(response.getBody()).containsEntry("id", 1);
+        });
+        assertThat(count("executed")).isEqualTo(1);
+        assertThat(count("coalesced") + count("replayed")).isEqualTo(THREADS - 1);
+        assertThat(count("conflict")).isZero();
+
+        // PENDING 마커는 짧은 lease, 최종 응답은 소유자 토큰 확인 후 window TTL 로 저장
+        verify(valueOperations).setIfAbsent(eq(STORE_KEY), startsWith("PENDING:"), eq(Duration.ofMillis(5000)));
+        assertThat(completed.get()[1]).isEqualTo(List.of(STORE_KEY));
+        assertThat(completed.get()[2]).isEqualTo(marker.get());
+        assertThat((String) completed.get()[3]).startsWith("201:");
+        assertThat(completed.get()[4]).isEqualTo(String.valueOf(TimeUnit.SECONDS.toMillis(86400)));
+    }
+
+    @Test
+    void leaseIsRenewedWhileActionRuns() {
+        ReflectionTestUtils.setField(idempotencyService, "inFlightTimeoutMs", 300L);
+        AtomicReference<String> marker = acquireMarker();
+        AtomicReference<Object[]> renewed = stubScript(IdempotencyService.RENEW_SCRIPT, 1L);
+        stubScript(IdempotencyService.COMPLETE_SCRIPT, 1L);
+
+        idempotencyService.execute(SCOPE, KEY, Map.of("menuItem", "후라이드"), () -> {
+            sleep(700);
+            return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("success", true));
+        });
+
+        verify(redisTemplate, atLeast(2)).execute(eq(IdempotencyService.RENEW_SCRIPT), eq(List.of(STORE_KEY)),
+            any(Object[].class));
+        assertThat(renewed.get()[2]).isEqualTo(marker.get());
+        assertThat(renewed.get()[3]).isEqualTo("300");
+    }
+
+    @Test
+    void lostMarkerIsNeitherOverwrittenNorDeleted() {
+        AtomicReference<String> marker = acquireMarker();
+        stubScript(IdempotencyService.COMPLETE_SCRIPT, 0L);
+        AtomicReference<Object[]> released = stubScript(IdempotencyService.RELEASE_SCRIPT, 0L);
+
+        ResponseEntity<Map<String, Object>> created = idempotencyService.execute(SCOPE, KEY,
+            Map.of("menuItem", "후라이드"),
+            () -> ResponseEntity.status(HttpStatus.CREATED).body(Map.of("success", true)));
+        ResponseEntity<Map<String, Object>> failed = idempotencyService.execute(SCOPE, "key-2",
+            Map.of("menuItem", "후라이드"),
+            () -> ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("success", false)));
+
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(failed.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        // 실패 응답은 자신의 마커일 때만 삭제하는 스크립트로 정리 (marker 는 마지막으로 선점한 key-2 의 값)
+        assertThat(released.get()[1]).isEqualTo(List.of("idempotency:" + SCOPE + ":key-2"));
+        assertThat(released.get()[2]).isEqualTo(marker.get());
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    void redisFailureFallsBackToLocalCoalescing() throws Exception {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+            .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        AtomicInteger invocations = new AtomicInteger();
+        List<ResponseEntity<Map<String, Object>>> responses = runConcurrently(() -> {
+            invocations.incrementAndGet();
+            sleep(200);
+            return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("success", true));
+        });
+
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(responses).allSatisfy(response ->
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED));
+        assertThat(count("executed")).isEqualTo(1);
+        assertThat(count("coalesced") + count("replayed")).isEqualTo(THREADS - 1);
+        assertThat(meterRegistry.get("idempotency.redis.fallback").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void sameKeyWithDifferentRequestIsRejected() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        idempotencyService.execute(SCOPE, KEY, Map.of("menuItem", "후라이드"),
+            () -> ResponseEntity.status(HttpStatus.CREATED).body(Map.of("success", true)));
+
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, KEY, Map.of("menuItem", "양념"),
+            () -> ResponseEntity.status(HttpStatus.CREATED).body(Map.of("success", true))))
+            .isInstanceOf(IdempotencyKeyMismatchException.class);
+        assertThat(count("executed")).isEqualTo(1);
+        assertThat(count("mismatch")).isEqualTo(1);
+    }
+
+    @Test
+    void remoteOwnerResultIsReplayed() throws Exception {
+        String fingerprint = fingerprint(REQUEST);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(STORE_KEY)).thenReturn(
+            "PENDING:" + fingerprint + ":other-pod",
+            "201:" + fingerprint + ":{\"success\":true,\"id\":7}");
+
+        AtomicInteger invocations = new AtomicInteger();
+        ResponseEntity<Map<String, Object>> response = idempotencyService.execute(SCOPE, KEY, REQUEST, () -> {
+            invocations.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("success", true));
+        });
+        // 두 번째 요청은 Redis 조회 없이 로컬 캐시에서 재생
+        idempotencyService.execute(SCOPE, KEY, REQUEST, () -> {
+            invocations.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("success", true));
+        });
+
+        assertThat(invocations.get()).isZero();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).containsEntry("id", 7);
+        assertThat(count("replayed")).isEqualTo(2);
+        assertThat(count("executed")).isZero();
+        verify(valueOperations, times(2)).get(STORE_KEY);
+    }
+
+    @Test
+    void remotePendingMarkerWithDifferentRequestIsRejected() throws Exception {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(STORE_KEY)).thenReturn("PENDING:" + fingerprint(Map.of("menuItem", "양념")) + ":other-pod");
+
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, KEY, REQUEST, IdempotencyServiceTest::created))
+            .isInstanceOf(IdempotencyKeyMismatchException.class);
+        assertThat(count("mismatch")).isEqualTo(1);
+        assertThat(count("executed")).isZero();
+    }
+
+    @Test
+    void remoteStoredResponseWithDifferentRequestIsRejected() throws Exception {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(STORE_KEY)).thenReturn(
+            "201:" + fingerprint(Map.of("menuItem", "양념")) + ":{\"success\":true}");
+
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, KEY, REQUEST, IdempotencyServiceTest::created))
+            .isInstanceOf(IdempotencyKeyMismatchException.class);
+        assertThat(count("mismatch")).isEqualTo(1);
+    }
+
+    @Test
+    void deletedRemoteMarkerIsConflict() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(STORE_KEY)).thenReturn(null);
+
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, KEY, REQUEST, IdempotencyServiceTest::created))
+            .isInstanceOf(IdempotencyInProgressException.class);
+        assertThat(count("conflict")).isEqualTo(1);
+        assertThat(count("executed")).isZero();
+    }
+
+    @Test
+    void remoteOwnerStillRunningAfterTimeoutIsConflict() throws Exception {
+        ReflectionTestUtils.setField(idempotencyService, "inFlightTimeoutMs", 200L);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(STORE_KEY)).thenReturn("PENDING:" + fingerprint(REQUEST) + ":other-pod");
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, KEY, REQUEST, IdempotencyServiceTest::created))
+            .isInstanceOf(IdempotencyInProgressException.class);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(200);
+        verify(valueOperations, atLeast(2)).get(STORE_KEY);
+        assertThat(count("conflict")).isEqualTo(1);
+        assertThat(count("executed")).isZero();
+    }
+
+    private List<ResponseEntity<Map<String, Object>>> runConcurrently(
+            Supplier<ResponseEntity<Map<String, Object>>> action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ResponseEntity<Map<String, Object>>>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return idempotencyService.execute(SCOPE, KEY, Map.of("menuItem", "후라이드"), action);
+                }));
+            }
+            start.countDown();
+
+            List<ResponseEntity<Map<String, Object>>> responses = new ArrayList<>();
+            for (Future<ResponseEntity<Map<String, Object>>> future : futures) {
+                responses.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return responses;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * SETNX 성공으로 스텁하고 기록된 마커 값을 반환
+     */
+    private AtomicReference<String> acquireMarker() {
+        AtomicReference<String> marker = new AtomicReference<>();
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenAnswer(invocation -> {
+            marker.set(invocation.getArgument(1));
+            return true;
+        });
+        return marker;
+    }
+
+    /**
+     * Lua 스크립트 실행 결과를 스텁하고 마지막 호출 인자 (script, keys, args...) 를 반환
+     */
+    private AtomicReference<Object[]> stubScript(RedisScript<Long> script, long result) {
+        AtomicReference<Object[]> arguments = new AtomicReference<>();
+        when(redisTemplate.execute(eq(script), anyList(), any(Object[].class))).thenAnswer(invocation -> {
+            arguments.set(invocation.getArguments());
+            return result;
+        });
+        return arguments;
+    }
+
+    /**
+     * IdempotencyService 와 같은 방식의 요청 지문 (JSON 의 SHA-256, hex)
+     */
+    private static String fingerprint(Object request) throws Exception {
+        byte[] json = new ObjectMapper().writeValueAsBytes(request);
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+    }
+
+    private static ResponseEntity<Map<String, Object>> created() {
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("success", true));
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("idempotency.requests").tag("result", result).counter().count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}